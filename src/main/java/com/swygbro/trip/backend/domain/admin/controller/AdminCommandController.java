@@ -2,9 +2,11 @@ package com.swygbro.trip.backend.domain.admin.controller;
 
 
 import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.swygbro.trip.backend.domain.guideProduct.application.GuideProductRegionService;
 import com.swygbro.trip.backend.domain.guideProduct.application.GuideProductService;
 import com.swygbro.trip.backend.domain.guideProduct.dto.CreateGuideProductRequest;
 import com.swygbro.trip.backend.domain.guideProduct.dto.ModifyGuideProductRequest;
+import com.swygbro.trip.backend.domain.guideProduct.infra.RegionRegistry;
 import com.swygbro.trip.backend.domain.reservation.aplication.ReservationService;
 import com.swygbro.trip.backend.domain.reservation.dto.SaveReservationRequest;
 import com.swygbro.trip.backend.domain.review.application.ReviewService;
@@ -32,6 +34,8 @@ public class AdminCommandController {
     private final GuideProductService guideProductService;
     private final ReservationService reservationService;
     private final ReviewService reviewService;
+    private final RegionRegistry regionRegistry;
+    private final GuideProductRegionService guideProductRegionService;
 
     @PutMapping(value = "/users/{userId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public void updateUserByAdmin(@PathVariable Long userId,
@@ -66,6 +70,12 @@ public class AdminCommandController {
         guideProductService.deleteGuideProduct(productId, user);
     }
 
+    @PostMapping("/regions/refresh")
+    public void refreshRegions() {
+        regionRegistry.refresh();
+        guideProductRegionService.reassignAll();
+    }
+
     @PostMapping("/reservations/confirm/{merchant_uid}")
     public void confirmReservation(@PathVariable String merchant_uid) {
         reservationService.confirmReservation(merchant_uid);
@@ -9,6 +9,7 @@ import com.swygbro.trip.backend.domain.admin.dto.ReviewDetailDto;
 import com.swygbro.trip.backend.domain.admin.dto.UserInfoCard;
 import com.swygbro.trip.backend.domain.guideProduct.application.GuideProductService;
 import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductDto;
+import com.swygbro.trip.backend.domain.guideProduct.infra.ProductDetailCache;
 import com.swygbro.trip.backend.domain.reservation.aplication.ReservationService;
 import com.swygbro.trip.backend.domain.reservation.dto.ReservationDto;
 import com.swygbro.trip.backend.domain.review.application.ReviewService;
@@ -38,6 +39,7 @@ public class AdminQueryController {
     private final GuideProductService guideProductService;
     private final ReservationService reservationService;
     private final ReviewService reviewService;
+    private final ProductDetailCache productDetailCache;
 
     private final UserDao userDao;
     private final GuideProductDao guideProductDao;
@@ -126,4 +128,8 @@ public class AdminQueryController {
         return reviewService.getReviewById(reviewId);
     }
 
+    @GetMapping("/caches/product-detail")
+    public ProductDetailCache.CacheStats getProductDetailCacheStats() {
+        return productDetailCache.getStats();
+    }
 }
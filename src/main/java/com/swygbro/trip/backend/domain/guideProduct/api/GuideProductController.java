@@ -19,11 +19,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -69,6 +71,105 @@ public class GuideProductController {
         return guideProductService.getMainPage(latitude, longitude, page);
     }
 
+    @GetMapping("/search/main/all")
+    @Operation(summary = "메인 페이지 전체 게시물 (커서)", description = """
+            # 메인 페이지 전체 게시물 (커서)
+                        
+            전체 게시물을 최신 등록순으로 조회합니다.
+                        
+            첫 요청은 cursor 없이 보내고, 다음 요청부터 응답의 `nextCursor` 값을 cursor 로 입력합니다.<br>
+            전체 상품 수가 필요한 경우에만 withCount=true 로 요청합니다.
+                        
+            각 필드의 제약 조건은 다음과 같습니다.
+            | 필드명 | 설명 | 제약조건 | null 가능 | 예시 |
+            |--------|------|----------|----------|------|
+            |cursor| 다음 페이지 커서 | 이전 응답의 nextCursor | Y | djE6MTI |
+            |size| 조회 개수 | 1 이상 50 이하, default = 12 | Y | 12 |
+            |withCount| 전체 상품 수 포함 여부 | default = false | Y | false |
+                        
+            ## 응답
+                        
+            - 조회 성공 시 `200` 코드와 함께 가이드 상품 목록과 다음 커서를 json 형태로 반환합니다.
+            - 커서가 잘못된 경우 `400` 에러를 반환합니다.
+            """, tags = "Search Guide Products")
+    @ApiResponse(
+            responseCode = "200",
+            description = "전체 게시물 조회 성공",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = GuideProductSliceResponse.class)
+            )
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 커서",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ApiErrorResponse.class),
+                    examples = @ExampleObject(
+                            name = "잘못된 커서",
+                            value = "{ \"status\" : \"BAD_REQUEST\", \"message\" : \"잘못된 커서입니다. : ({cursor})\"}"
+                    )
+            )
+    )
+    public GuideProductSliceResponse getAllGuideSlice(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false, defaultValue = "12") int size,
+                                                      @RequestParam(required = false, defaultValue = "false") boolean withCount) {
+        return guideProductService.getAllGuideSlice(cursor, size, withCount);
+    }
+
+    @GetMapping("/search/map")
+    @Operation(summary = "지도 영역 내 가이드 상품", description = """
+            # 지도 영역 내 가이드 상품
+                        
+            지도 화면 영역(남서쪽, 북동쪽 좌표)과 확대 수준으로 가이드 상품 위치를 조회합니다.
+                        
+            확대 수준이 15 미만이면 geohash 칸 단위로 묶은 `clusters`(상품 수, 평균 위치, 최신 상품 id 최대 3개)를 반환하고,<br>
+            15 이상이면 개별 상품 위치 `markers` 를 반환합니다. 영역 내 상품이 500개를 넘으면 15 이상이어도 가장 작은 칸으로 묶어 반환합니다.<br>
+            상품 상세 정보는 상품 id 로 별도 조회합니다.
+                        
+            각 필드의 제약 조건은 다음과 같습니다.
+            | 필드명 | 설명 | 제약조건 | null 가능 | 예시 |
+            |--------|------|----------|----------|------|
+            |south| 영역 남쪽 위도 | -90.0 이상, north 이하 | N | 37.4 |
+            |west| 영역 서쪽 경도 | -180.0 이상, 180.0 이하, east 보다 크면 날짜 변경선을 넘는 영역 | N | 126.8 |
+            |north| 영역 북쪽 위도 | 90.0 이하 | N | 37.7 |
+            |east| 영역 동쪽 경도 | -180.0 이상, 180.0 이하 | N | 127.2 |
+            |zoom| 지도 확대 수준 | 0 이상 22 이하 | N | 11 |
+                        
+            ## 응답
+                        
+            - 영역 내 상품 위치와 `200` 코드를 반환합니다.
+            - 영역 또는 확대 수준이 잘못된 경우 `400` 에러를 반환합니다.
+            """, tags = "Search Guide Products")
+    @ApiResponse(
+            responseCode = "200",
+            description = "지도 영역 내 가이드 상품 조회 성공",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = GuideProductMapResponse.class)
+            )
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 영역",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ApiErrorResponse.class),
+                    examples = @ExampleObject(
+                            name = "잘못된 영역",
+                            value = "{ \"status\" : \"BAD_REQUEST\", \"message\" : \"잘못된 위치입니다. 올바르게 입력해 주세요.\"}"
+                    )
+            )
+    )
+    public GuideProductMapResponse getMapProducts(@RequestParam double south,
+                                                  @RequestParam double west,
+                                                  @RequestParam double north,
+                                                  @RequestParam double east,
+                                                  @RequestParam int zoom) {
+        return guideProductService.getMapProducts(south, west, north, east, zoom);
+    }
+
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, value = "/products")
     @PreAuthorize("isAuthenticated() and hasRole('USER') and #user.id == principal.id")
     @SecurityRequirement(name = "access-token")
@@ -212,6 +313,53 @@ public class GuideProductController {
         return guideProductService.getProduct(productId);
     }
 
+    @GetMapping("/products/{productId}/availability")
+    @Operation(summary = "가이드 상품 예약 가능 날짜", description = """
+            # 가이드 상품 예약 가능 날짜
+                        
+            기간 중 예약할 수 있는 날짜를 조회합니다.
+                        
+            상품의 가이드 기간 안이면서 오늘 이후이고, 취소되지 않은 예약이 없는 날짜를 반환합니다.
+                        
+            각 필드의 제약 조건은 다음과 같습니다.
+            | 필드명 | 설명 | 제약조건 | null 가능 | 예시 |
+            |--------|------|----------|----------|------|
+            |productId| 가이드 상품 고유 id | 숫자 | N | 1 |
+            |from| 조회 시작 날짜 | yyyy-MM-dd | N | 2024-05-01 |
+            |to| 조회 종료 날짜 | yyyy-MM-dd, from 이후 1년 이내 | N | 2024-05-31 |
+                        
+            ## 응답
+                        
+            - 조회 성공 시 `200` 코드와 함께 예약 가능한 날짜 목록을 반환합니다.
+            - 날짜 범위가 잘못된 경우 `400` 에러를 반환합니다.
+            - 상품이 존재하지 않는 경우 `404` 에러를 반환합니다.
+            """, tags = "Guide Products")
+    @ApiResponse(
+            responseCode = "200",
+            description = "예약 가능 날짜 조회 성공",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = @ExampleObject(value = "[\"2024-05-01\", \"2024-05-03\"]")
+            )
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 날짜 범위",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ApiErrorResponse.class),
+                    examples = @ExampleObject(
+                            name = "잘못된 날짜 범위",
+                            value = "{ \"status\" : \"BAD_REQUEST\", \"message\" : \"잘못된 날짜 범위입니다. 시작 날짜부터 최대 1년까지 조회할 수 있습니다.\"}"
+                    )
+            )
+    )
+    public List<LocalDate> getAvailableDays(@PathVariable Long productId,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return guideProductService.getAvailableDays(productId, from, to);
+    }
+
     @PutMapping(value = "/products/{productId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("isAuthenticated() and hasRole('USER') and #user.id == principal.id")
     @SecurityRequirement(name = "access-token")
@@ -399,7 +547,7 @@ public class GuideProductController {
                         
             # 지역 + 날짜로 검색
                         
-            지역과 날짜를 입력하면 두 조건에 만족하는 가이드 상품들을 검색합니다.<br>
+            지역과 날짜를 입력하면 해당 지역에서 기간 중 예약 가능한 날이 남아있는 가이드 상품들을 검색합니다.<br>
             지역과 날짜로 검색할 시 지역과 날짜는 둘 다 null 불가능입니다.
                         
             각 필드의 제약 조건은 다음과 같습니다.
@@ -409,6 +557,15 @@ public class GuideProductController {
             |start| 범위 시작 날짜 | yyyy-MM-dd, 00:00:00시간부터 | Y | 2024-05-01 |
             |end| 범위 종료 날짜 | yyyy-MM-dd, 23:59:99시간까지 | Y | 2024-05-02 |
                         
+            # 키워드로 검색
+                        
+            상품 제목, 설명, 위치 이름에 키워드가 포함된 가이드 상품을 검색합니다.<br>
+            다른 검색, 카테고리, 필터 조건과 함께 사용 가능합니다.
+                        
+            | 필드명 | 설명 | 제약조건 | null 가능 | 예시 |
+            |--------|------|----------|----------|------|
+            |keyword| 검색 키워드 | 띄어쓰기로 여러 단어 입력 시 모두 포함하는 상품 | Y | 한강 야경 |
+                        
             # 카테고리로 검색
                         
             메인페이지 및 필터에서만 카테고리 중 BEST, NEAR 사용 가능합니다.<br>
@@ -422,6 +579,8 @@ public class GuideProductController {
             |latitude| 현재 위치(위도) | -90.0 이상, 90.0 이하 | Y | 37.435 |
             |longitude| 현재 위치(경도) | -180.0 이상, 180.0 이하 | Y | 230.253 |
             |category| 카테고리 선택 |NEAR,BEST,DINING,TOUR,OUTDOOR,ENTERTAINMENT,ART_CULTURE,SPORTS_FITNESS| Y | DINING |
+            |categories| 여러 카테고리 선택 |DINING,TOUR,OUTDOOR,ENTERTAINMENT,ART_CULTURE,SPORTS_FITNESS, category 와 함께 쓰면 둘 다 포함| Y | DINING,TOUR |
+            |categoryMatch| 여러 카테고리 일치 방식 |ANY(하나 이상 포함), ALL(모두 포함), default = ANY| Y | ALL |
                         
             # 상세 조건으로 필터
                         
@@ -436,7 +595,7 @@ public class GuideProductController {
             |max| 최대 가격 범위 | 한국 재화 기준 | Y (default = 200000)| 30000 |
             |minD| 최소 소요 시간 | 시간 단위 | Y (default = 1) | 2 |
             |maxD| 최대 소요 시간 | 시간 단위 | Y (default = 24) | 5 |
-            |dayT| 시간대 | DAWN(0 ~ 6), MORNING(7 ~ 11), LUNCH (12 ~ 17), EVENING (18 ~ 23) | Y (default = ALL) | LUNCH |
+            |dayT| 시간대 | DAWN(0 ~ 6), MORNING(7 ~ 11), LUNCH (12 ~ 17), EVENING (18 ~ 23), 단일 및 여러개 가능 | Y (default = ALL) | ["MORNING", "LUNCH"] |
             |host| 같은 국적 여부 | 같을 경우 true, 다를 경우 false | Y (default = false) | false |
             |lan| 선호 언어 | 선호하는 언어 목록을 ISO 639-1 형식으로 입력, 단일 및 여러개 가능 | Y | ["ko", "en"] |
                       
@@ -476,13 +635,109 @@ public class GuideProductController {
                                                                           @RequestParam(value = "max", required = false, defaultValue = "200000") Long maxPrice,
                                                                           @RequestParam(value = "minD", required = false, defaultValue = "1") int minDuration,
                                                                           @RequestParam(value = "maxD", required = false, defaultValue = "24") int maxDuration,
-                                                                          @RequestParam(value = "dayT", required = false, defaultValue = "ALL") DayTime dayTime,
+                                                                          @RequestParam(value = "dayT", required = false, defaultValue = "ALL") List<DayTime> dayTimes,
                                                                           @RequestParam(value = "host", required = false, defaultValue = "false") boolean same,
                                                                           @RequestParam(value = "lan", required = false) List<Language> languages,
                                                                           Pageable pageable) {
         if (user != null && same)
-            return guideProductService.getSearchedGuideList(request, searchCategoriesRequest, minPrice, maxPrice, minDuration, maxDuration, dayTime, user.getNationality(), languages, pageable);
+            return guideProductService.getSearchedGuideList(request, searchCategoriesRequest, minPrice, maxPrice, minDuration, maxDuration, dayTimes, user.getNationality(), languages, pageable);
         else
-            return guideProductService.getSearchedGuideList(request, searchCategoriesRequest, minPrice, maxPrice, minDuration, maxDuration, dayTime, null, languages, pageable);
+            return guideProductService.getSearchedGuideList(request, searchCategoriesRequest, minPrice, maxPrice, minDuration, maxDuration, dayTimes, null, languages, pageable);
+    }
+
+    @GetMapping("/search/cursor")
+    @Operation(summary = "검색 + 필터 (커서)", description = """
+            `/api/v1/search` 와 같은 검색 조건으로 가이드 상품을 최신 등록순으로 조회합니다.
+                        
+            page, size 대신 cursor, size 를 사용하며 전체 상품 수는 withCount=true 일 때만 계산합니다.<br>
+            첫 요청은 cursor 없이 보내고, 다음 요청부터 응답의 `nextCursor` 값을 cursor 로 입력합니다.
+                        
+            각 필드의 제약 조건은 다음과 같습니다.
+            | 필드명 | 설명 | 제약조건 | null 가능 | 예시 |
+            |--------|------|----------|----------|------|
+            |cursor| 다음 페이지 커서 | 이전 응답의 nextCursor | Y | djE6MTI |
+            |size| 조회 개수 | 1 이상 50 이하, default = 12 | Y | 12 |
+            |withCount| 전체 상품 수 포함 여부 | default = false | Y | false |
+                        
+            ## 응답
+                        
+            - 검색 조건 내 가이드 상품이 존재할 경우 `200` 코드와 함께 가이드 상품 목록과 다음 커서를 반환합니다.
+            - 첫 요청에서 검색 조건 내 가이드 상품이 존재하지 않을 경우 `404` 에러를 반환합니다.
+            - 커서가 잘못된 경우 `400` 에러를 반환합니다.
+            """, tags = "Search Guide Products")
+    @ApiResponse(
+            responseCode = "200",
+            description = "범위 내 가이드 상품 불러오기 성공",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = GuideProductSliceResponse.class)
+            )
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "범위 내 가이드 상품이 존재하지 않음",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ApiErrorResponse.class),
+                    examples = @ExampleObject(
+                            name = "가이드 상품이 존재하지 않음",
+                            value = "{ \"status\" : \"NOT_FOUND\", \"message\" : \"해당 조건에 부합하는 가이드 상품이 존재하지 않습니다.\"}"
+                    )
+            )
+    )
+    public GuideProductSliceResponse getSearchedGuideSlice(@CurrentUser User user,
+                                                           SearchGuideProductRequest request,
+                                                           SearchCategoriesRequest searchCategoriesRequest,
+                                                           @RequestParam(value = "min", required = false, defaultValue = "0") Long minPrice,
+                                                           @RequestParam(value = "max", required = false, defaultValue = "200000") Long maxPrice,
+                                                           @RequestParam(value = "minD", required = false, defaultValue = "1") int minDuration,
+                                                           @RequestParam(value = "maxD", required = false, defaultValue = "24") int maxDuration,
+                                                           @RequestParam(value = "dayT", required = false, defaultValue = "ALL") List<DayTime> dayTimes,
+                                                           @RequestParam(value = "host", required = false, defaultValue = "false") boolean same,
+                                                           @RequestParam(value = "lan", required = false) List<Language> languages,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false, defaultValue = "12") int size,
+                                                           @RequestParam(required = false, defaultValue = "false") boolean withCount) {
+        return guideProductService.getSearchedGuideSlice(request, searchCategoriesRequest, minPrice, maxPrice, minDuration, maxDuration,
+                dayTimes, user != null && same ? user.getNationality() : null, languages, cursor, size, withCount);
+    }
+
+    @GetMapping("/search/facets")
+    @Operation(summary = "검색 필터 패싯", description = """
+            `/api/v1/search` 와 같은 검색 조건으로 필터 패널에 표시할 상품 수를 조회합니다.
+                        
+            - totalCount: 모든 조건에 부합하는 상품 수
+            - categories: 카테고리(DINING, TOUR, OUTDOOR, ENTERTAINMENT, ART_CULTURE, SPORTS_FITNESS)별 상품 수
+            - prices: 20000원 단위 가격 구간별 상품 수, 마지막 구간은 200000원 이상
+            - durations: 진행 시간 구간(1~2, 3~4, 5~6, 7~12, 13시간 이상)별 상품 수
+            - dayTimes: 시간대(DAWN, MORNING, LUNCH, EVENING)별 상품 수
+                        
+            각 패싯은 해당 패싯의 조건만 제외하고 나머지 조건을 적용해 계산합니다.<br>
+            예를 들어 category=DINING 으로 검색해도 categories 에는 다른 카테고리를 선택했을 때의 상품 수가 포함됩니다.
+                        
+            ## 응답
+                        
+            - 조건에 부합하는 상품이 없어도 `200` 코드와 함께 0 으로 채운 패싯을 반환합니다.
+            """, tags = "Search Guide Products")
+    @ApiResponse(
+            responseCode = "200",
+            description = "패싯 조회 성공",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = GuideProductFacetResponse.class)
+            )
+    )
+    public GuideProductFacetResponse getSearchFacets(@CurrentUser User user,
+                                                     SearchGuideProductRequest request,
+                                                     SearchCategoriesRequest searchCategoriesRequest,
+                                                     @RequestParam(value = "min", required = false, defaultValue = "0") Long minPrice,
+                                                     @RequestParam(value = "max", required = false, defaultValue = "200000") Long maxPrice,
+                                                     @RequestParam(value = "minD", required = false, defaultValue = "1") int minDuration,
+                                                     @RequestParam(value = "maxD", required = false, defaultValue = "24") int maxDuration,
+                                                     @RequestParam(value = "dayT", required = false, defaultValue = "ALL") List<DayTime> dayTimes,
+                                                     @RequestParam(value = "host", required = false, defaultValue = "false") boolean same,
+                                                     @RequestParam(value = "lan", required = false) List<Language> languages) {
+        return guideProductService.getSearchFacets(request, searchCategoriesRequest, minPrice, maxPrice, minDuration, maxDuration,
+                dayTimes, user != null && same ? user.getNationality() : null, languages);
     }
 }
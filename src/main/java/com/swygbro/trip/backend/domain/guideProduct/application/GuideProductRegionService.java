@@ -0,0 +1,80 @@
+package com.swygbro.trip.backend.domain.guideProduct.application;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductLocationDto;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductRegionsReassignedEvent;
+import com.swygbro.trip.backend.domain.guideProduct.infra.RegionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가이드 상품의 region_name 컬럼을 관리하는 서비스
+ * <p>
+ * 상품 저장 시 좌표가 속한 지역을 계산하고, region_name 이 비어있는 기존 상품은 시작 시점에 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuideProductRegionService {
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final GuideProductRepository guideProductRepository;
+    private final RegionRegistry regionRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 좌표가 속한 지역 이름, 어느 지역에도 속하지 않으면 null
+    public String resolveRegion(Point location) {
+        return regionRegistry.findRegionName(location).orElse(null);
+    }
+
+    // 지역 경계 로딩 이후 region_name 이 없는 상품 채우기
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        long updated = assign(guideProductRepository.findLocationsWithoutRegion(), false);
+        log.info("가이드 상품 지역 backfill 완료: {}건", updated);
+    }
+
+    // 지역 경계가 바뀐 뒤 전체 상품의 지역 다시 계산, 커밋 후 검색 인덱스, 추천 순위, 메인 페이지 캐시를 다시 만듦
+    @Transactional
+    public long reassignAll() {
+        long updated = assign(guideProductRepository.findAllLocations(), true);
+        eventPublisher.publishEvent(new GuideProductRegionsReassignedEvent(updated));
+        return updated;
+    }
+
+    // clearUnmatched 이면 어느 지역에도 속하지 않게 된 상품의 region_name 을 null 로 지움
+    private long assign(List<GuideProductLocationDto> products, boolean clearUnmatched) {
+        // 지역 이름 -> 상품 id, null 키는 지역 없음
+        Map<String, List<Long>> idsByRegion = new HashMap<>();
+        for (GuideProductLocationDto product : products) {
+            String region = resolveRegion(product.getLocation());
+            if (region != null || clearUnmatched) idsByRegion.computeIfAbsent(region, key -> new ArrayList<>()).add(product.getId());
+        }
+
+        long updated = 0;
+        for (Map.Entry<String, List<Long>> entry : idsByRegion.entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size()));
+                updated += guideProductRepository.updateRegionName(chunk, entry.getKey());
+            }
+        }
+        return updated;
+    }
+}
@@ -2,23 +2,43 @@ package com.swygbro.trip.backend.domain.guideProduct.application;
 
 import com.swygbro.trip.backend.domain.guideProduct.domain.*;
 import com.swygbro.trip.backend.domain.guideProduct.dto.*;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductChangedEvent;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductModifiedEvent;
 import com.swygbro.trip.backend.domain.guideProduct.exception.GuideProductNotFoundException;
 import com.swygbro.trip.backend.domain.guideProduct.exception.GuideProductNotInRangeException;
+import com.swygbro.trip.backend.domain.guideProduct.exception.InvalidDateRangeException;
 import com.swygbro.trip.backend.domain.guideProduct.exception.MismatchUserFromCreatorException;
 import com.swygbro.trip.backend.domain.guideProduct.exception.NotValidLocationException;
+import com.swygbro.trip.backend.domain.guideProduct.infra.GuideProductAvailabilityIndex;
+import com.swygbro.trip.backend.domain.guideProduct.infra.GuideProductFacetIndex;
+import com.swygbro.trip.backend.domain.guideProduct.infra.GuideProductLocationIndex;
+import com.swygbro.trip.backend.domain.guideProduct.infra.GuideProductMapClusterer;
+import com.swygbro.trip.backend.domain.guideProduct.infra.GuideProductRanking;
+import com.swygbro.trip.backend.domain.guideProduct.infra.GuideProductSearchIndex;
+import com.swygbro.trip.backend.domain.guideProduct.infra.GuideProductTextIndex;
+import com.swygbro.trip.backend.domain.guideProduct.infra.MainPageCache;
+import com.swygbro.trip.backend.domain.guideProduct.infra.ProductDetailCache;
+import com.swygbro.trip.backend.domain.guideProduct.infra.RegionRegistry;
+import com.swygbro.trip.backend.domain.review.domain.Review;
+import com.swygbro.trip.backend.domain.review.domain.ReviewRepository;
 import com.swygbro.trip.backend.domain.s3.application.S3Service;
 import com.swygbro.trip.backend.domain.user.domain.Language;
 import com.swygbro.trip.backend.domain.user.domain.Nationality;
 import com.swygbro.trip.backend.domain.user.domain.User;
+import com.swygbro.trip.backend.global.outbox.application.OutboxEventStore;
 import lombok.RequiredArgsConstructor;
-import org.locationtech.jts.geom.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -32,13 +52,35 @@ public class GuideProductService {
 
     private final S3Service s3Service;
     private final GuideProductRepository guideProductRepository;
-    private final RegionRepository regionRepository;
+    private final RegionRegistry regionRegistry;
+    private final GuideProductRegionService regionService;
+    private final GuideProductLocationIndex locationIndex;
+    private final GuideProductMapClusterer mapClusterer;
+    private final MainPageCache mainPageCache;
+    private final ProductDetailCache productDetailCache;
+    private final GuideProductTextIndex textIndex;
+    private final GuideProductRanking ranking;
+    private final GuideProductSearchIndex searchIndex;
+    private final GuideProductFacetIndex facetIndex;
+    private final GuideProductAvailabilityIndex availabilityIndex;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventStore outboxEventStore;
+    private final PlatformTransactionManager transactionManager;
+
+    // 근처 게시물 검색 반경(m)
+    private static final int NEAR_RADIUS = 30000;
+    // 지도 최대 확대 수준
+    private static final int MAX_MAP_ZOOM = 22;
+    // 상품 상세에 포함할 리뷰 수
+    private static final int DETAIL_REVIEW_SIZE = 5;
+    // 커서 기반 목록 최대 크기
+    private static final int MAX_SLICE_SIZE = 50;
 
     // 메인 페이지
     @Transactional(readOnly = true)
     public MainPageResponse getMainPage(Double latitude, Double longitude, int page) {
-        MultiPolygon polygon = regionRepository.findByName("서울특별시").getPolygon();
-        Geometry geometry;
+        String region = RegionRegistry.DEFAULT_REGION;
         Pageable pageable = PageRequest.of(page, 12);
 
         if (page >= 1) {
@@ -46,20 +88,28 @@ public class GuideProductService {
 
             return MainPageResponse.builder().allGuideProducts(allGuideProducts).build();
         } else {
+            List<SearchGuideProductResponse> nearGuideProducts;
             if (latitude != null && longitude != null) {
-                geometry = setPoint(latitude, longitude);
-            } else geometry = polygon;
+                nearGuideProducts = mainPageCache.getNear(latitude, longitude, NEAR_RADIUS, (centerLatitude, centerLongitude) ->
+                        guideProductRepository.findByIds(locationIndex.findWithinRadius(centerLatitude, centerLongitude, NEAR_RADIUS, 4)));
+            } else nearGuideProducts = mainPageCache.getNearByRegion(region, () -> guideProductRepository.findByRegion(region, 4));
 
-            List<SearchGuideProductResponse> nearGuideProducts = guideProductRepository.findByLocation(geometry, 30000);
+            List<SearchGuideProductResponse> bestGuideProducts = mainPageCache.getBest(region, () -> getBestGuideProducts(region));
 
-            List<SearchGuideProductResponse> bestGuideProducts = guideProductRepository.findByBest(polygon);
+            Page<SearchGuideProductResponse> allGuideProducts = mainPageCache.getFirstPage(() -> guideProductRepository.findAllWithMain(pageable));
 
-            Page<SearchGuideProductResponse> allGuideProducts = guideProductRepository.findAllWithMain(pageable);
-
-            return MainPageResponse.from(nearGuideProducts, bestGuideProducts, allGuideProducts);
+            return MainPageResponse.from(bestGuideProducts, nearGuideProducts, allGuideProducts);
         }
     }
 
+    // 추천 순위가 계산되어 있으면 순위대로, 없으면 지역 상품 4개
+    private List<SearchGuideProductResponse> getBestGuideProducts(String region) {
+        List<Long> bestIds = ranking.getTop(region, 4);
+        if (bestIds.isEmpty()) return guideProductRepository.findByBest(region);
+
+        return guideProductRepository.findByIds(bestIds);
+    }
+
     // 가이드 상품 생성
     @Transactional
     public CreateGuideProductDto createGuideProduct(User user, CreateGuideProductRequest request, MultipartFile thumb, Optional<List<MultipartFile>> images) {
@@ -78,21 +128,30 @@ public class GuideProductService {
         );
 
         GuideProduct product = GuideProduct.setGuideProduct(user, request, imageUrls);
+        product.assignRegion(regionService.resolveRegion(product.getLocation()));
 
         request.getCategories().forEach(category -> {
             product.addGuideCategory(new GuideCategory(category));
         });
 
         GuideProduct resultProduct = guideProductRepository.saveAndFlush(product);
+        eventPublisher.publishEvent(GuideProductChangedEvent.saved(resultProduct));
+
         return CreateGuideProductDto.fromEntity(resultProduct);
     }
 
-    // 가이드 상품 조회
-    @Transactional(readOnly = true)
+    // 가이드 상품 조회, 캐시 적중 시 DB 연결을 잡지 않도록 캐시에 없을 때만 읽기 전용 트랜잭션에서 조회
     public GuideProductDto getProduct(Long productId) {
-        GuideProduct product = guideProductRepository.findDetailById(productId).orElseThrow(() -> new GuideProductNotFoundException(productId));
+        return productDetailCache.get(productId, () -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+
+            return readOnly.execute(status -> {
+                GuideProduct product = guideProductRepository.findDetailById(productId).orElseThrow(() -> new GuideProductNotFoundException(productId));
 
-        return GuideProductDto.fromEntity(product);
+                return GuideProductDto.fromEntity(product, getDetailReviews(productId));
+            });
+        });
     }
 
     // 가이드 상품 수정
@@ -120,10 +179,14 @@ public class GuideProductService {
         });
 
         product.setGuideProduct(edits);
+        product.assignRegion(regionService.resolveRegion(product.getLocation()));
         product.setGuideCategory(edits.getCategories());
 
         GuideProduct resultProduct = guideProductRepository.saveAndFlush(product);
-        return GuideProductDto.fromEntity(resultProduct);
+        eventPublisher.publishEvent(GuideProductChangedEvent.saved(resultProduct));
+        outboxEventStore.append(GuideProductModifiedEvent.of(resultProduct));
+
+        return GuideProductDto.fromEntity(resultProduct, getDetailReviews(productId));
     }
 
     // 가이드 상품 삭제
@@ -137,34 +200,117 @@ public class GuideProductService {
         product.getImages().forEach(s3Service::deleteImage);
 
         guideProductRepository.deleteById(productId);
+        eventPublisher.publishEvent(GuideProductChangedEvent.deleted(productId));
     }
 
     // 지역, 날짜로 검색
     @Transactional(readOnly = true)
     public Page<SearchGuideProductResponse> getSearchedGuideList(SearchGuideProductRequest request, SearchCategoriesRequest categories,
                                                                  Long minPrice, Long maxPrice, int minDuration, int maxDuration,
-                                                                 DayTime dayTime, Nationality nationality, List<Language> languages,
+                                                                 List<DayTime> dayTimes, Nationality nationality, List<Language> languages,
                                                                  Pageable pageable) {
+        GuideProductSearchCondition condition = toCondition(request, categories, minPrice, maxPrice,
+                minDuration, maxDuration, dayTimes, nationality, languages);
+
+        GuideProductSearchIndex.SearchResult result = searchIndex.search(condition, pageable.getOffset(), pageable.getPageSize());
+        Page<SearchGuideProductResponse> guideProducts = new PageImpl<>(guideProductRepository.findByIds(result.ids()),
+                pageable, result.totalCount());
+
+        if (guideProducts.isEmpty()) throw new GuideProductNotInRangeException("해당 조건에 부합하는 가이드 상품이 존재하지 않습니다.");
+
+        return guideProducts;
+    }
+
+    // 지역, 날짜로 검색 (커서 기반)
+    @Transactional(readOnly = true)
+    public GuideProductSliceResponse getSearchedGuideSlice(SearchGuideProductRequest request, SearchCategoriesRequest categories,
+                                                           Long minPrice, Long maxPrice, int minDuration, int maxDuration,
+                                                           List<DayTime> dayTimes, Nationality nationality, List<Language> languages,
+                                                           String cursor, int size, boolean withCount) {
+        GuideProductSearchCondition condition = toCondition(request, categories, minPrice, maxPrice,
+                minDuration, maxDuration, dayTimes, nationality, languages);
+
+        GuideProductSliceResponse slice = getSlice(condition, cursor, size, withCount);
+
+        if (slice.getContent().isEmpty() && cursor == null)
+            throw new GuideProductNotInRangeException("해당 조건에 부합하는 가이드 상품이 존재하지 않습니다.");
+
+        return slice;
+    }
+
+    // 기간 중 예약 가능한 날짜
+    @Transactional(readOnly = true)
+    public List<LocalDate> getAvailableDays(Long productId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || from.plusYears(1).isBefore(to)) throw new InvalidDateRangeException();
+        if (!guideProductRepository.existsById(productId)) throw new GuideProductNotFoundException(productId);
+
+        return availabilityIndex.getFreeDays(productId, from, to);
+    }
+
+    // 지도 영역 내 가이드 상품 위치
+    public GuideProductMapResponse getMapProducts(double south, double west, double north, double east, int zoom) {
+        isValidLocation(south, west);
+        isValidLocation(north, east);
+        if (south > north || zoom < 0 || zoom > MAX_MAP_ZOOM) throw new NotValidLocationException();
+
+        return mapClusterer.find(south, west, north, east, zoom);
+    }
+
+    // 검색 필터 패널의 패싯 수
+    public GuideProductFacetResponse getSearchFacets(SearchGuideProductRequest request, SearchCategoriesRequest categories,
+                                                     Long minPrice, Long maxPrice, int minDuration, int maxDuration,
+                                                     List<DayTime> dayTimes, Nationality nationality, List<Language> languages) {
+        return facetIndex.count(toCondition(request, categories, minPrice, maxPrice,
+                minDuration, maxDuration, dayTimes, nationality, languages));
+    }
+
+    // 전체 게시물 (커서 기반)
+    @Transactional(readOnly = true)
+    public GuideProductSliceResponse getAllGuideSlice(String cursor, int size, boolean withCount) {
+        return getSlice(null, cursor, size, withCount);
+    }
+
+    private GuideProductSliceResponse getSlice(GuideProductSearchCondition condition, String cursor, int size, boolean withCount) {
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+
+        List<Long> productIds = searchIndex.searchBefore(condition, GuideProductCursor.decode(cursor).getLastId(), limit + 1);
+        List<SearchGuideProductResponse> fetched = guideProductRepository.findByIds(productIds);
+        Long totalCount = withCount ? searchIndex.count(condition) : null;
+
+        return GuideProductSliceResponse.of(fetched, limit, totalCount);
+    }
+
+    private GuideProductSearchCondition toCondition(SearchGuideProductRequest request, SearchCategoriesRequest categories,
+                                                    Long minPrice, Long maxPrice, int minDuration, int maxDuration,
+                                                    List<DayTime> dayTimes, Nationality nationality, List<Language> languages) {
         ZonedDateTime zonedDateStart;
         ZonedDateTime zonedDateEnd;
-        MultiPolygon polygon;
+        String region;
 
         if (request.getRegion() != null && request.getStart() != null && request.getEnd() != null) {
             zonedDateStart = request.getStart().atStartOfDay(ZoneId.of("Asia/Seoul"));
             zonedDateEnd = ZonedDateTime.of(request.getEnd().atTime(LocalTime.MAX), ZoneId.of("Asia/Seoul"));
-            polygon = regionRepository.findByName(request.getRegion()).getPolygon();
+            region = regionRegistry.requireName(request.getRegion());
         } else {
             zonedDateStart = null;
             zonedDateEnd = null;
-            polygon = regionRepository.findByName("서울특별시").getPolygon();
+            region = RegionRegistry.DEFAULT_REGION;
         }
 
-        Page<SearchGuideProductResponse> guideProducts = guideProductRepository.findByFilter(polygon, zonedDateStart,
-                zonedDateEnd, categories, minPrice, maxPrice, minDuration, maxDuration, dayTime, nationality, languages, pageable);
-
-        if (guideProducts.isEmpty()) throw new GuideProductNotInRangeException("해당 조건에 부합하는 가이드 상품이 존재하지 않습니다.");
+        return GuideProductSearchCondition.builder()
+                .region(region).start(zonedDateStart).end(zonedDateEnd)
+                .categories(categories)
+                .minPrice(minPrice).maxPrice(maxPrice)
+                .minDuration(minDuration).maxDuration(maxDuration)
+                .dayTimes(dayTimes).nationality(nationality).languages(languages)
+                .productIds(request.getKeyword() == null || request.getKeyword().isBlank() ? null
+                        : textIndex.match(request.getKeyword()))
+                .build();
+    }
 
-        return guideProducts;
+    // 상품 상세에 포함할 최신 리뷰, 나머지는 리뷰 목록 API로 조회
+    private Page<Review> getDetailReviews(Long productId) {
+        return reviewRepository.findByGuideProductIdOrderByIdDesc(productId, PageRequest.of(0, DETAIL_REVIEW_SIZE));
     }
 
     // 가이드 위치 유효한지 검사
@@ -172,12 +318,4 @@ public class GuideProductService {
         if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)
             throw new NotValidLocationException();
     }
-
-    private Point setPoint(double latitude, double longitude) {
-        GeometryFactory geometryFactory = new GeometryFactory();
-        Point point = geometryFactory.createPoint(new Coordinate(longitude, latitude));
-        point.setSRID(4326);
-
-        return point;
-    }
 }
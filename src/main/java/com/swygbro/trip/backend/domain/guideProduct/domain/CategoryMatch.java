@@ -0,0 +1,9 @@
+package com.swygbro.trip.backend.domain.guideProduct.domain;
+
+// 여러 카테고리 선택 시 일치 방식
+public enum CategoryMatch {
+    // 선택한 카테고리 중 하나 이상
+    ANY,
+    // 선택한 카테고리 모두
+    ALL
+}
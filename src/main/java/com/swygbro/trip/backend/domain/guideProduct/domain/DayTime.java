@@ -3,7 +3,6 @@ package com.swygbro.trip.backend.domain.guideProduct.domain;
 import lombok.Getter;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 @Getter
 public enum DayTime {
@@ -13,14 +12,15 @@ public enum DayTime {
     LUNCH(12, 17),
     EVENING(18, 23);
 
-    private final String start;
-    private final String end;
+    private final LocalTime start;
+    private final LocalTime end;
 
     DayTime(int start, int end) {
-        String startTime = LocalTime.of(start, 0, 0).format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-        String endTime = LocalTime.of(end, 59, 59).format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-        this.start = startTime;
-        this.end = endTime;
+        this.start = LocalTime.of(start, 0, 0);
+        this.end = LocalTime.of(end, 59, 59);
     }
 
+    public boolean contains(LocalTime time) {
+        return !time.isBefore(start) && !time.isAfter(end);
+    }
 }
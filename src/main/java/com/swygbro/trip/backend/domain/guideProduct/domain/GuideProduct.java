@@ -26,7 +26,10 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "guide_product")
+@Table(name = "guide_product", indexes = {
+        @Index(name = "idx_guide_product_region", columnList = "region_name"),
+        @Index(name = "idx_guide_product_start_time", columnList = "guide_start_time")
+})
 @Getter
 public class GuideProduct extends BaseEntity {
 
@@ -53,6 +56,10 @@ public class GuideProduct extends BaseEntity {
     @Column(nullable = false, columnDefinition = "POINT SRID 4326")
     private Point location;
 
+    // location 이 속한 지역 이름, 저장 시점에 계산
+    @Column(name = "region_name", length = 100)
+    private String regionName;
+
     @Column(name = "guide_start", nullable = false)
     private ZonedDateTime guideStart;
 
@@ -100,6 +107,10 @@ public class GuideProduct extends BaseEntity {
                 .build();
     }
 
+    public void assignRegion(String regionName) {
+        this.regionName = regionName;
+    }
+
     public void addGuideCategory(GuideCategory category) {
         this.categories.add(category);
         category.setProduct(this);
@@ -1,30 +1,55 @@
 package com.swygbro.trip.backend.domain.guideProduct.domain;
 
-import com.swygbro.trip.backend.domain.guideProduct.dto.SearchCategoriesRequest;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductLocationDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductPeriodDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductRankingStatDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSearchRowDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductTextDto;
 import com.swygbro.trip.backend.domain.guideProduct.dto.SearchGuideProductResponse;
 import com.swygbro.trip.backend.domain.user.domain.Language;
-import com.swygbro.trip.backend.domain.user.domain.Nationality;
-import org.locationtech.jts.geom.Geometry;
-import org.locationtech.jts.geom.MultiPolygon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface GuideProductCustomRepository {
 
     Optional<GuideProduct> findDetailById(Long productId);
 
-    List<SearchGuideProductResponse> findByLocation(Geometry geometry, int radius);
+    List<SearchGuideProductResponse> findByRegion(String region, int limit);
 
-    Page<SearchGuideProductResponse> findByFilter(MultiPolygon region, ZonedDateTime start, ZonedDateTime end,
-                                                  SearchCategoriesRequest categories, Long minPrice, Long maxPrice,
-                                                  int minDuration, int maxDuration, DayTime dayTime,
-                                                  Nationality nationality, List<Language> languages, Pageable pageable);
+    List<SearchGuideProductResponse> findByIds(List<Long> productIds);
 
-    List<SearchGuideProductResponse> findByBest(MultiPolygon polygon);
+    List<GuideProductLocationDto> findAllLocations();
+
+    List<GuideProductLocationDto> findLocationsWithoutRegion();
+
+    List<GuideProductTextDto> findAllTexts();
+
+    // 상품 id 또는 가이드 id 에 해당하는 상품, 둘 다 null 이면 전체
+    List<GuideProductSearchRowDto> findSearchRows(List<Long> productIds, List<Long> hostIds);
+
+    // 상품 id -> 카테고리 목록, productIds 가 null 이면 전체
+    Map<Long, List<GuideCategoryCode>> findCategoryCodes(List<Long> productIds);
+
+    // 가이드 id -> 사용 언어 목록, hostIds 가 null 이면 상품을 등록한 전체 가이드
+    Map<Long, List<Language>> findHostLanguages(List<Long> hostIds);
+
+    List<GuideProductPeriodDto> findPeriods(List<Long> productIds);
+
+    // 상품 id -> since 이후 예약 인원이 다 찬 날짜
+    Map<Long, List<LocalDate>> findFullDays(List<Long> productIds, LocalDate since);
+
+    long updateRegionName(List<Long> productIds, String region);
+
+    List<SearchGuideProductResponse> findByBest(String region);
+
+    // 상품별 리뷰 수, 평균 평점, reservedSince 이후 예약 수
+    List<GuideProductRankingStatDto> findRankingStats(ZonedDateTime reservedSince);
 
     Page<SearchGuideProductResponse> findAllWithMain(Pageable pageable);
 }
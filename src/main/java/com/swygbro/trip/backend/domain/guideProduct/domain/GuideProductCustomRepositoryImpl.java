@@ -2,25 +2,40 @@ package com.swygbro.trip.backend.domain.guideProduct.domain;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductLocationDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductPeriodDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductRankingStatDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSearchRowDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductTextDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.QGuideProductRankingStatDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.QGuideProductTextDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.QGuideProductLocationDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.QGuideProductPeriodDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.QGuideProductSearchRowDto;
 import com.swygbro.trip.backend.domain.guideProduct.dto.QSearchGuideProductResponse;
-import com.swygbro.trip.backend.domain.guideProduct.dto.SearchCategoriesRequest;
 import com.swygbro.trip.backend.domain.guideProduct.dto.SearchGuideProductResponse;
+import com.swygbro.trip.backend.domain.reservation.domain.QReservation;
+import com.swygbro.trip.backend.domain.reservation.domain.QReservationSlot;
 import com.swygbro.trip.backend.domain.review.domain.QReview;
 import com.swygbro.trip.backend.domain.user.domain.Language;
-import com.swygbro.trip.backend.domain.user.domain.Nationality;
 import com.swygbro.trip.backend.domain.user.domain.QUser;
 import com.swygbro.trip.backend.domain.user.domain.QUserLanguage;
-import org.locationtech.jts.geom.*;
+import com.swygbro.trip.backend.global.status.ReservationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 public class GuideProductCustomRepositoryImpl implements GuideProductCustomRepository {
@@ -28,8 +43,9 @@ public class GuideProductCustomRepositoryImpl implements GuideProductCustomRepos
     private final QGuideProduct qProduct = QGuideProduct.guideProduct;
     private final QGuideCategory qCategory = QGuideCategory.guideCategory;
     private final QUserLanguage qUserLanguage = QUserLanguage.userLanguage;
-    private final QReview qReview = QReview.review;
     private final QUser qUser = QUser.user;
+    private final QReservation qReservation = QReservation.reservation;
+    private final QReservationSlot qSlot = QReservationSlot.reservationSlot;
 
     public GuideProductCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
         this.jpaQueryFactory = jpaQueryFactory;
@@ -37,18 +53,16 @@ public class GuideProductCustomRepositoryImpl implements GuideProductCustomRepos
 
     @Override
     public Optional<GuideProduct> findDetailById(Long productId) {
+        // 리뷰는 페이지 단위로 따로 조회
         return Optional.ofNullable(jpaQueryFactory.selectFrom(qProduct)
                 .join(qProduct.user, qUser).fetchJoin()
-                .join(qProduct.categories, qCategory).fetchJoin()
-                .leftJoin(qProduct.reviews, qReview).fetchJoin()
-                .leftJoin(qReview.reviewer).fetchJoin()
-                .leftJoin(qReview.images).fetchJoin()
+                .leftJoin(qProduct.categories, qCategory).fetchJoin()
                 .where(qProduct.id.eq(productId))
                 .fetchOne());
     }
 
     @Override
-    public List<SearchGuideProductResponse> findByLocation(Geometry geometry, int radius) {
+    public List<SearchGuideProductResponse> findByRegion(String region, int limit) {
         return jpaQueryFactory
                 .select(new QSearchGuideProductResponse(
                         qProduct.id,
@@ -59,14 +73,16 @@ public class GuideProductCustomRepositoryImpl implements GuideProductCustomRepos
                         qProduct.guideEnd
                 ))
                 .from(qProduct)
-                .where(nearGuideProduct(geometry, radius))
-                .limit(4)
-                .distinct().fetch();
+                .where(regionEq(region))
+                .limit(limit)
+                .fetch();
     }
 
     @Override
-    public List<SearchGuideProductResponse> findByBest(MultiPolygon polygon) {
-        return jpaQueryFactory
+    public List<SearchGuideProductResponse> findByIds(List<Long> productIds) {
+        if (productIds.isEmpty()) return List.of();
+
+        List<SearchGuideProductResponse> fetch = jpaQueryFactory
                 .select(new QSearchGuideProductResponse(
                         qProduct.id,
                         qProduct.title,
@@ -76,14 +92,150 @@ public class GuideProductCustomRepositoryImpl implements GuideProductCustomRepos
                         qProduct.guideEnd
                 ))
                 .from(qProduct)
-                .where(regionEq(polygon))
-                .limit(4)
-                .distinct().fetch();
+                .where(qProduct.id.in(productIds))
+                .fetch();
+
+        // 요청한 id 순서(거리순 등) 유지
+        return fetch.stream()
+                .sorted(Comparator.comparingInt(response -> productIds.indexOf(response.getId())))
+                .toList();
     }
 
     @Override
-    public Page<SearchGuideProductResponse> findAllWithMain(Pageable pageable) {
-        List<SearchGuideProductResponse> fetch = jpaQueryFactory
+    public List<GuideProductLocationDto> findAllLocations() {
+        return jpaQueryFactory
+                .select(new QGuideProductLocationDto(qProduct.id, qProduct.location))
+                .from(qProduct)
+                .fetch();
+    }
+
+    @Override
+    public List<GuideProductLocationDto> findLocationsWithoutRegion() {
+        return jpaQueryFactory
+                .select(new QGuideProductLocationDto(qProduct.id, qProduct.location))
+                .from(qProduct)
+                .where(qProduct.regionName.isNull())
+                .fetch();
+    }
+
+    @Override
+    public List<GuideProductTextDto> findAllTexts() {
+        return jpaQueryFactory
+                .select(new QGuideProductTextDto(qProduct.id, qProduct.title, qProduct.description, qProduct.locationName))
+                .from(qProduct)
+                .fetch();
+    }
+
+    // productIds, hostIds 가 모두 null 이면 전체 상품
+    @Override
+    public List<GuideProductSearchRowDto> findSearchRows(List<Long> productIds, List<Long> hostIds) {
+        BooleanExpression target = null;
+        if (productIds != null || hostIds != null) {
+            target = productIds == null || productIds.isEmpty() ? Expressions.FALSE.isTrue() : qProduct.id.in(productIds);
+            if (hostIds != null && !hostIds.isEmpty()) target = target.or(qUser.id.in(hostIds));
+        }
+
+        return jpaQueryFactory
+                .select(new QGuideProductSearchRowDto(
+                        qProduct.id,
+                        qProduct.regionName,
+                        qProduct.location,
+                        qProduct.price,
+                        qProduct.guideTime,
+                        qProduct.guideStartTime,
+                        qUser.id,
+                        qUser.nationality
+                ))
+                .from(qProduct)
+                .join(qProduct.user, qUser)
+                .where(target)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, List<GuideCategoryCode>> findCategoryCodes(List<Long> productIds) {
+        return jpaQueryFactory
+                .select(qCategory.product.id, qCategory.categoryCode)
+                .from(qCategory)
+                .where(productIds == null ? null : qCategory.product.id.in(productIds))
+                .fetch().stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(qCategory.product.id),
+                        Collectors.mapping(tuple -> tuple.get(qCategory.categoryCode), Collectors.toList())));
+    }
+
+    @Override
+    public Map<Long, List<Language>> findHostLanguages(List<Long> hostIds) {
+        return jpaQueryFactory
+                .select(qUserLanguage.user.id, qUserLanguage.language)
+                .from(qUserLanguage)
+                .where(hostIds == null
+                        ? qUserLanguage.user.id.in(JPAExpressions.select(qProduct.user.id).from(qProduct))
+                        : qUserLanguage.user.id.in(hostIds))
+                .fetch().stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(qUserLanguage.user.id),
+                        Collectors.mapping(tuple -> tuple.get(qUserLanguage.language), Collectors.toList())));
+    }
+
+    // productIds 가 null 이면 전체
+    @Override
+    public List<GuideProductPeriodDto> findPeriods(List<Long> productIds) {
+        return jpaQueryFactory
+                .select(new QGuideProductPeriodDto(qProduct.id, qProduct.guideStart, qProduct.guideEnd))
+                .from(qProduct)
+                .where(productIds == null ? null : qProduct.id.in(productIds))
+                .fetch();
+    }
+
+    // 예약 인원이 다 찬 날짜, productIds 가 null 이면 전체
+    @Override
+    public Map<Long, List<LocalDate>> findFullDays(List<Long> productIds, LocalDate since) {
+        return jpaQueryFactory
+                .select(qSlot.productId, qSlot.slotDate)
+                .from(qSlot)
+                .where(productIds == null ? null : qSlot.productId.in(productIds),
+                        qSlot.slotDate.goe(since),
+                        qSlot.reserved.goe(qSlot.capacity))
+                .fetch().stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(qSlot.productId),
+                        Collectors.mapping(tuple -> tuple.get(qSlot.slotDate), Collectors.toList())));
+    }
+
+    @Override
+    public long updateRegionName(List<Long> productIds, String region) {
+        return jpaQueryFactory.update(qProduct)
+                .set(qProduct.regionName, region)
+                .where(qProduct.id.in(productIds))
+                .execute();
+    }
+
+    @Override
+    public List<GuideProductRankingStatDto> findRankingStats(ZonedDateTime reservedSince) {
+        QReview subReview = new QReview("subReview");
+
+        return jpaQueryFactory
+                .select(new QGuideProductRankingStatDto(
+                        qProduct.id,
+                        qProduct.regionName,
+                        JPAExpressions.select(subReview.count())
+                                .from(subReview)
+                                .where(subReview.guideProduct.id.eq(qProduct.id)),
+                        JPAExpressions.select(subReview.rating.avg())
+                                .from(subReview)
+                                .where(subReview.guideProduct.id.eq(qProduct.id)),
+                        JPAExpressions.select(qReservation.count())
+                                .from(qReservation)
+                                .where(qReservation.product.id.eq(qProduct.id),
+                                        qReservation.createdAt.goe(reservedSince),
+                                        qReservation.reservationStatus.in(ReservationStatus.RESERVED, ReservationStatus.SETTLED))
+                ))
+                .from(qProduct)
+                .where(qProduct.regionName.isNotNull())
+                .fetch();
+    }
+
+    @Override
+    public List<SearchGuideProductResponse> findByBest(String region) {
+        return jpaQueryFactory
                 .select(new QSearchGuideProductResponse(
                         qProduct.id,
                         qProduct.title,
@@ -93,29 +245,13 @@ public class GuideProductCustomRepositoryImpl implements GuideProductCustomRepos
                         qProduct.guideEnd
                 ))
                 .from(qProduct)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .where(regionEq(region))
+                .limit(4)
                 .distinct().fetch();
-
-        JPQLQuery<Long> count = jpaQueryFactory.select(qProduct.count())
-                .from(qProduct);
-
-        return PageableExecutionUtils.getPage(fetch, pageable, count::fetchOne);
     }
 
     @Override
-    public Page<SearchGuideProductResponse> findByFilter(MultiPolygon region,
-                                                         ZonedDateTime start,
-                                                         ZonedDateTime end,
-                                                         SearchCategoriesRequest category,
-                                                         Long minPrice,
-                                                         Long maxPrice,
-                                                         int minDuration,
-                                                         int maxDuration,
-                                                         DayTime dayTime,
-                                                         Nationality nationality,
-                                                         List<Language> languages,
-                                                         Pageable pageable) {
+    public Page<SearchGuideProductResponse> findAllWithMain(Pageable pageable) {
         List<SearchGuideProductResponse> fetch = jpaQueryFactory
                 .select(new QSearchGuideProductResponse(
                         qProduct.id,
@@ -126,86 +262,18 @@ public class GuideProductCustomRepositoryImpl implements GuideProductCustomRepos
                         qProduct.guideEnd
                 ))
                 .from(qProduct)
-                .where(regionEqAndStartDateBetween(region, start, end),
-                        categoryIn(region, category),
-                        qProduct.price.between(minPrice, maxPrice),
-                        qProduct.guideTime.between(minDuration, maxDuration),
-                        hourEq(dayTime),
-                        nationalityEq(nationality),
-                        languageIn(languages))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .distinct().fetch();
 
         JPQLQuery<Long> count = jpaQueryFactory.select(qProduct.count())
-                .from(qProduct)
-                .where(regionEqAndStartDateBetween(region, start, end),
-                        categoryIn(region, category),
-                        qProduct.price.between(minPrice, maxPrice),
-                        qProduct.guideTime.between(minDuration, maxDuration),
-                        hourEq(dayTime),
-                        nationalityEq(nationality),
-                        languageIn(languages));
+                .from(qProduct);
 
         return PageableExecutionUtils.getPage(fetch, pageable, count::fetchOne);
     }
 
-    private BooleanExpression nearGuideProduct(Geometry geometry, int radius) {
-        if (geometry.getGeometryType().equals("Point")) {
-            return Expressions.booleanTemplate("ST_CONTAINS(ST_BUFFER({0}, {1}), {2})",
-                    geometry, radius, qProduct.location);
-        } else return Expressions.booleanTemplate("ST_CONTAINS({0}, {1})",
-                geometry, qProduct.location);
-    }
-
-    private BooleanExpression hourEq(DayTime dayTime) {
-        return Expressions.booleanTemplate("DATE_FORMAT({0}, '%H:%i:%s') between {1} and {2}",
-                qProduct.guideStartTime, dayTime.getStart(), dayTime.getEnd());
-    }
-
-    private BooleanExpression regionEqAndStartDateBetween(MultiPolygon region, ZonedDateTime start, ZonedDateTime end) {
-        if (region != null && start != null && end != null) return Expressions.booleanTemplate("ST_CONTAINS({0}, {1})",
-                region, qProduct.location).and(qProduct.guideStart.between(start, end));
-        return null;
-    }
-
-    private BooleanExpression regionEq(MultiPolygon region) {
-        if (region != null) return Expressions.booleanTemplate("ST_CONTAINS({0}, {1})",
-                region, qProduct.location);
-        return null;
-    }
-
-    private BooleanExpression categoryIn(MultiPolygon region, SearchCategoriesRequest request) {
-        if (request.getCategory() != null) {
-            if (request.getCategory() == GuideCategoryCode.NEAR) {
-                if (request.getLatitude() != null && request.getLongitude() != null) {
-                    GeometryFactory geometryFactory = new GeometryFactory();
-                    Point point = geometryFactory.createPoint(new Coordinate(request.getLongitude(), request.getLatitude()));
-                    point.setSRID(4326);
-
-                    return Expressions.booleanTemplate("ST_CONTAINS(ST_BUFFER({0}, {1}), {2})",
-                            point, 30000, qProduct.location);
-                } else return Expressions.booleanTemplate("ST_CONTAINS({0}, {1})",
-                        region, qProduct.location);
-            } else if (request.getCategory() == GuideCategoryCode.BEST)
-                return Expressions.booleanTemplate("ST_CONTAINS({0}, {1})",
-                        region, qProduct.location);
-            else return qProduct.id.in(jpaQueryFactory.select(qCategory.product.id)
-                        .from(qCategory)
-                        .where(qCategory.categoryCode.eq(request.getCategory())));
-        }
-        return null;
-    }
-
-    private BooleanExpression nationalityEq(Nationality nationality) {
-        if (nationality != null) return qProduct.user.nationality.eq(nationality);
-        return null;
-    }
-
-    private BooleanExpression languageIn(List<Language> languages) {
-        if (languages != null) return qProduct.user.id.in(jpaQueryFactory.select(qUserLanguage.user.id)
-                .from(qUserLanguage)
-                .where(qUserLanguage.language.in(languages)));
+    private BooleanExpression regionEq(String region) {
+        if (region != null) return qProduct.regionName.eq(region);
         return null;
     }
 }
@@ -0,0 +1,45 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import com.swygbro.trip.backend.domain.guideProduct.exception.InvalidCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 가이드 상품 목록 커서
+ * <p>
+ * 상품 id 내림차순(최신 등록순)으로 정렬된 목록에서 마지막으로 조회한 상품 id를 담고,
+ * 클라이언트에는 base64 문자열로만 전달합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GuideProductCursor {
+    private static final String VERSION = "v1";
+
+    private final Long lastId;
+
+    public static GuideProductCursor after(Long lastId) {
+        return new GuideProductCursor(lastId);
+    }
+
+    // 커서가 없으면 첫 페이지
+    public static GuideProductCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return new GuideProductCursor(null);
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 2 || !VERSION.equals(parts[0])) throw new InvalidCursorException(cursor);
+            return new GuideProductCursor(Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION + ":" + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,15 +4,18 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategory;
 import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
 import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
+import com.swygbro.trip.backend.domain.review.domain.Review;
 import com.swygbro.trip.backend.domain.review.dto.DetailReviewDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -59,10 +62,29 @@ public class GuideProductDto {
     private String thumb;
     @Schema(description = "상품 이미지 url", example = "[\"https://S3저장소URL/저장위치/난수화된 이미지이름.이미지 타입\", \"...\"]")
     private List<String> images;
-    @Schema(description = "상품 리뷰")
+    @Schema(description = "상품 리뷰 (최신순 첫 페이지)")
     private List<DetailReviewDto> reviews;
+    @Schema(description = "전체 리뷰 수", example = "12")
+    private Long reviewCount;
 
+    // 리뷰 첫 페이지 포함
+    public static GuideProductDto fromEntity(GuideProduct product, Page<Review> reviews) {
+        GuideProductDto dto = fromEntityWithoutReviews(product);
+        dto.reviews = reviews.map(DetailReviewDto::fromEntity).getContent();
+        dto.reviewCount = reviews.getTotalElements();
+        return dto;
+    }
+
+    // 상품의 전체 리뷰 포함
     public static GuideProductDto fromEntity(GuideProduct product) {
+        GuideProductDto dto = fromEntityWithoutReviews(product);
+        dto.reviews = product.getReviews().stream().map(DetailReviewDto::fromEntity).collect(Collectors.toList());
+        dto.reviewCount = (long) dto.reviews.size();
+        return dto;
+    }
+
+    // 리뷰 미포함, 다른 응답에 상품을 함께 담을 때 사용
+    public static GuideProductDto fromEntityWithoutReviews(GuideProduct product) {
         List<GuideCategoryCode> categories = product.getCategories().stream().map(GuideCategory::getCategoryCode).toList();
 
         return GuideProductDto.builder().id(product.getId())
@@ -75,7 +97,7 @@ public class GuideProductDto {
                 .guideStartTime(product.getGuideStartTime()).guideEndTime(product.getGuideEndTime())
                 .guideTime(product.getGuideTime()).categories(categories)
                 .thumb(product.getThumb()).images(product.getImages())
-                .reviews(product.getReviews().stream().map(DetailReviewDto::fromEntity).collect(Collectors.toList()))
+                .reviews(new ArrayList<>())
                 .build();
     }
 }
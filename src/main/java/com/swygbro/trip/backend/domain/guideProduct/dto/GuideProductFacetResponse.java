@@ -0,0 +1,41 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.DayTime;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuideProductFacetResponse {
+    @Schema(description = "모든 검색 조건에 부합하는 상품 수", example = "42")
+    private long totalCount;
+    @Schema(description = "카테고리별 상품 수, 카테고리 조건을 제외한 나머지 조건 기준", example = "{\"DINING\": 12, \"TOUR\": 30}")
+    private Map<GuideCategoryCode, Long> categories;
+    @Schema(description = "가격 구간별 상품 수, 가격 조건을 제외한 나머지 조건 기준")
+    private List<Bucket> prices;
+    @Schema(description = "진행 시간 구간별 상품 수, 진행 시간 조건을 제외한 나머지 조건 기준")
+    private List<Bucket> durations;
+    @Schema(description = "시간대별 상품 수, 시간대 조건을 제외한 나머지 조건 기준", example = "{\"MORNING\": 10, \"EVENING\": 4}")
+    private Map<DayTime, Long> dayTimes;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        @Schema(description = "구간 최소값(포함)", example = "20000")
+        private long min;
+        @Schema(description = "구간 최대값(포함), 마지막 구간이면 null", example = "39999")
+        private Long max;
+        @Schema(description = "구간에 속한 상품 수", example = "7")
+        private long count;
+    }
+}
@@ -0,0 +1,17 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import org.locationtech.jts.geom.Point;
+
+@Getter
+public class GuideProductLocationDto {
+    private final Long id;
+    private final Point location;
+
+    @QueryProjection
+    public GuideProductLocationDto(Long id, Point location) {
+        this.id = id;
+        this.location = location;
+    }
+}
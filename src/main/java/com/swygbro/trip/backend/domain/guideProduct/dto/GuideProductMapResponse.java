@@ -0,0 +1,50 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuideProductMapResponse {
+    @Schema(description = "영역 내 전체 상품 수", example = "128")
+    private long totalCount;
+    @Schema(description = "geohash 칸 단위 묶음, 확대 수준이 낮을 때만 포함")
+    private List<Cluster> clusters;
+    @Schema(description = "개별 상품 위치, 확대 수준이 높을 때만 포함")
+    private List<Marker> markers;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cluster {
+        @Schema(description = "geohash 칸", example = "wydm9")
+        private String geohash;
+        @Schema(description = "칸 내 상품 수", example = "12")
+        private long count;
+        @Schema(description = "칸 내 상품 위치 평균(위도)", example = "37.5665")
+        private double latitude;
+        @Schema(description = "칸 내 상품 위치 평균(경도)", example = "126.978")
+        private double longitude;
+        @Schema(description = "칸 내 최신 상품 id 일부", example = "[31, 27, 12]")
+        private List<Long> sampleIds;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Marker {
+        @Schema(description = "가이드 상품 id", example = "31")
+        private Long id;
+        @Schema(description = "위도", example = "37.5665")
+        private double latitude;
+        @Schema(description = "경도", example = "126.978")
+        private double longitude;
+    }
+}
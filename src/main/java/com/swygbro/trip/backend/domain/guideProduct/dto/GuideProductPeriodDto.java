@@ -0,0 +1,21 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+// 예약 가능 날짜 인덱스용 상품 가이드 기간
+@Getter
+public class GuideProductPeriodDto {
+    private final Long id;
+    private final ZonedDateTime guideStart;
+    private final ZonedDateTime guideEnd;
+
+    @QueryProjection
+    public GuideProductPeriodDto(Long id, ZonedDateTime guideStart, ZonedDateTime guideEnd) {
+        this.id = id;
+        this.guideStart = guideStart;
+        this.guideEnd = guideEnd;
+    }
+}
@@ -0,0 +1,23 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+// 추천 순위 계산용 상품별 집계
+@Getter
+public class GuideProductRankingStatDto {
+    private final Long productId;
+    private final String regionName;
+    private final long reviewCount;
+    private final double averageRating;
+    private final long recentReservationCount;
+
+    @QueryProjection
+    public GuideProductRankingStatDto(Long productId, String regionName, Long reviewCount, Double averageRating, Long recentReservationCount) {
+        this.productId = productId;
+        this.regionName = regionName;
+        this.reviewCount = reviewCount == null ? 0 : reviewCount;
+        this.averageRating = averageRating == null ? 0 : averageRating;
+        this.recentReservationCount = recentReservationCount == null ? 0 : recentReservationCount;
+    }
+}
@@ -0,0 +1,30 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.DayTime;
+import com.swygbro.trip.backend.domain.user.domain.Language;
+import com.swygbro.trip.backend.domain.user.domain.Nationality;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+// 가이드 상품 검색 + 필터 조건
+@Getter
+@Builder
+public class GuideProductSearchCondition {
+    private String region;
+    private ZonedDateTime start;
+    private ZonedDateTime end;
+    private SearchCategoriesRequest categories;
+    private Long minPrice;
+    private Long maxPrice;
+    private int minDuration;
+    private int maxDuration;
+    private List<DayTime> dayTimes;
+    private Nationality nationality;
+    private List<Language> languages;
+    // 키워드 검색 결과 상품 id, null 이면 키워드 조건 없음
+    private Set<Long> productIds;
+}
@@ -0,0 +1,34 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.swygbro.trip.backend.domain.user.domain.Nationality;
+import lombok.Getter;
+import org.locationtech.jts.geom.Point;
+
+import java.time.LocalTime;
+
+// 검색 인덱스(읽기 모델)용 상품 속성
+@Getter
+public class GuideProductSearchRowDto {
+    private final Long id;
+    private final String regionName;
+    private final Point location;
+    private final Long price;
+    private final int guideTime;
+    private final LocalTime guideStartTime;
+    private final Long hostId;
+    private final Nationality nationality;
+
+    @QueryProjection
+    public GuideProductSearchRowDto(Long id, String regionName, Point location, Long price,
+                                   int guideTime, LocalTime guideStartTime, Long hostId, Nationality nationality) {
+        this.id = id;
+        this.regionName = regionName;
+        this.location = location;
+        this.price = price;
+        this.guideTime = guideTime;
+        this.guideStartTime = guideStartTime;
+        this.hostId = hostId;
+        this.nationality = nationality;
+    }
+}
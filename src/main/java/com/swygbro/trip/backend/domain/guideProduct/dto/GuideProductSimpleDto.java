@@ -57,8 +57,11 @@ public class GuideProductSimpleDto {
     private String thumb;
 
     public static GuideProductSimpleDto fromEntity(GuideProduct product) {
-        List<GuideCategoryCode> categories = product.getCategories().stream().map(GuideCategory::getCategoryCode).toList();
+        return fromEntity(product, product.getCategories().stream().map(GuideCategory::getCategoryCode).toList());
+    }
 
+    // 카테고리를 따로 모아서 조회한 경우
+    public static GuideProductSimpleDto fromEntity(GuideProduct product, List<GuideCategoryCode> categories) {
         return GuideProductSimpleDto.builder().id(product.getId())
                 .userId(product.getUser().getId())
                 .nickname(product.getUser().getNickname())
@@ -0,0 +1,37 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuideProductSliceResponse {
+    @Schema(description = "가이드 상품들")
+    private List<SearchGuideProductResponse> content;
+    @Schema(description = "다음 페이지 커서, 마지막 페이지면 null", example = "djE6MTI")
+    private String nextCursor;
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+    @Schema(description = "전체 상품 수, withCount=true 일 때만 포함", example = "120")
+    private Long totalCount;
+
+    // limit + 1 개를 조회한 결과로 다음 페이지 여부 판단
+    public static GuideProductSliceResponse of(List<SearchGuideProductResponse> fetched, int size, Long totalCount) {
+        boolean hasNext = fetched.size() > size;
+        List<SearchGuideProductResponse> content = hasNext ? fetched.subList(0, size) : fetched;
+
+        return GuideProductSliceResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? GuideProductCursor.after(content.get(content.size() - 1).getId()).encode() : null)
+                .hasNext(hasNext)
+                .totalCount(totalCount)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.swygbro.trip.backend.domain.guideProduct.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+// 키워드 검색 인덱스용 상품 텍스트
+@Getter
+public class GuideProductTextDto {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String locationName;
+
+    @QueryProjection
+    public GuideProductTextDto(Long id, String title, String description, String locationName) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.locationName = locationName;
+    }
+}
@@ -1,9 +1,12 @@
 package com.swygbro.trip.backend.domain.guideProduct.dto;
 
+import com.swygbro.trip.backend.domain.guideProduct.domain.CategoryMatch;
 import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
+import java.util.List;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -16,4 +19,12 @@ public class SearchCategoriesRequest {
     private Double longitude;
     @Schema(description = "상품 카테고리", example = "DINING")
     private GuideCategoryCode category;
+    @Schema(description = "여러 카테고리 선택", example = "[\"DINING\", \"TOUR\"]")
+    private List<GuideCategoryCode> categories;
+    @Schema(description = "여러 카테고리 일치 방식, default = ANY", example = "ALL")
+    private CategoryMatch categoryMatch;
+
+    public SearchCategoriesRequest(Double latitude, Double longitude, GuideCategoryCode category) {
+        this(latitude, longitude, category, null, null);
+    }
 }
@@ -3,6 +3,7 @@ package com.swygbro.trip.backend.domain.guideProduct.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.format.annotation.DateTimeFormat;
 
@@ -10,6 +11,7 @@ import java.time.LocalDate;
 
 @Getter
 @Setter
+@NoArgsConstructor
 @AllArgsConstructor
 public class SearchGuideProductRequest {
     @Schema(description = "지역", example = "서울특별시")
@@ -20,4 +22,10 @@ public class SearchGuideProductRequest {
     @Schema(description = "범위 종료 날짜", example = "2024-05-02")
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate end;
+    @Schema(description = "검색 키워드 (제목, 설명, 위치 이름)", example = "한강")
+    private String keyword;
+
+    public SearchGuideProductRequest(String region, LocalDate start, LocalDate end) {
+        this(region, start, end, null);
+    }
 }
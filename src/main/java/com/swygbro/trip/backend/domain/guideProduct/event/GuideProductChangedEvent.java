@@ -0,0 +1,27 @@
+package com.swygbro.trip.backend.domain.guideProduct.event;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.locationtech.jts.geom.Point;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GuideProductChangedEvent {
+    private final Long productId;
+    private final Point location;
+    private final String title;
+    private final String description;
+    private final String locationName;
+    private final boolean deleted;
+
+    public static GuideProductChangedEvent saved(GuideProduct product) {
+        return new GuideProductChangedEvent(product.getId(), product.getLocation(),
+                product.getTitle(), product.getDescription(), product.getLocationName(), false);
+    }
+
+    public static GuideProductChangedEvent deleted(Long productId) {
+        return new GuideProductChangedEvent(productId, null, null, null, null, true);
+    }
+}
@@ -0,0 +1,18 @@
+package com.swygbro.trip.backend.domain.guideProduct.event;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 가이드 상품 수정 시 아웃박스로 발행
+@Getter
+@AllArgsConstructor
+public class GuideProductModifiedEvent {
+    private final Long productId;
+    private final Long hostId;
+    private final String title;
+
+    public static GuideProductModifiedEvent of(GuideProduct product) {
+        return new GuideProductModifiedEvent(product.getId(), product.getUser().getId(), product.getTitle());
+    }
+}
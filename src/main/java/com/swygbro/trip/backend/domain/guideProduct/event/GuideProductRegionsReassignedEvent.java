@@ -0,0 +1,11 @@
+package com.swygbro.trip.backend.domain.guideProduct.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지역 경계 변경으로 전체 상품의 region_name 을 다시 계산했을 때 발행
+@Getter
+@AllArgsConstructor
+public class GuideProductRegionsReassignedEvent {
+    private final long updatedCount;
+}
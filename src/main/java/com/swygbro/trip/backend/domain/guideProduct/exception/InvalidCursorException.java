@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.guideProduct.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends BaseException {
+    public InvalidCursorException(String cursor) {
+        super(HttpStatus.BAD_REQUEST, "잘못된 커서입니다. : (%s)".formatted(cursor));
+    }
+}
@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.guideProduct.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidDateRangeException extends BaseException {
+    public InvalidDateRangeException() {
+        super(HttpStatus.BAD_REQUEST, "잘못된 날짜 범위입니다. 시작 날짜부터 최대 1년까지 조회할 수 있습니다.");
+    }
+}
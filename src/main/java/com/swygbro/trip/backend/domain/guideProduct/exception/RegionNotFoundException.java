@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.guideProduct.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class RegionNotFoundException extends BaseException {
+    public RegionNotFoundException(String region) {
+        super(HttpStatus.BAD_REQUEST, "지원하지 않는 지역입니다. : (%s)".formatted(region));
+    }
+}
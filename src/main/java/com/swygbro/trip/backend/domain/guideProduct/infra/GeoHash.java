@@ -0,0 +1,70 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+/**
+ * 위경도를 geohash 문자열로 변환하는 유틸리티
+ * <p>
+ * 정밀도 6 기준 한 칸은 약 1.2km x 0.6km 입니다.
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double[] latRange = {-90, 90};
+        double[] lonRange = {-180, 180};
+
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            double[] range = evenBit ? lonRange : latRange;
+            double value = evenBit ? longitude : latitude;
+            double mid = (range[0] + range[1]) / 2;
+
+            index <<= 1;
+            if (value >= mid) {
+                index |= 1;
+                range[0] = mid;
+            } else range[1] = mid;
+
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[index]);
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    // geohash 칸의 중심 {위도, 경도}
+    public static double[] decodeCenter(String hash) {
+        double[] latRange = {-90, 90};
+        double[] lonRange = {-180, 180};
+        boolean evenBit = true;
+
+        for (char c : hash.toCharArray()) {
+            int index = indexOf(c);
+            for (int shift = 4; shift >= 0; shift--) {
+                double[] range = evenBit ? lonRange : latRange;
+                double mid = (range[0] + range[1]) / 2;
+                if (((index >> shift) & 1) == 1) range[0] = mid;
+                else range[1] = mid;
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{(latRange[0] + latRange[1]) / 2, (lonRange[0] + lonRange[1]) / 2};
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < BASE32.length; i++) {
+            if (BASE32[i] == c) return i;
+        }
+        throw new IllegalArgumentException("올바르지 않은 geohash 문자입니다. : " + c);
+    }
+}
@@ -0,0 +1,221 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductPeriodDto;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductChangedEvent;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongPredicate;
+
+/**
+ * 가이드 상품별 예약 가능 날짜 인덱스
+ * <p>
+ * 상품마다 가이드 기간의 날짜별 예약 여부를 비트맵으로 보관합니다. 예약 인원이 다 찬 날은 예약할 수 없습니다.
+ * 예약 생성, 취소와 상품 변경 이벤트가 오면 해당 상품만 다음 조회 때 백그라운드 스레드에서 다시 읽고,
+ * 다시 읽는 동안 조회는 기존 날짜로 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuideProductAvailabilityIndex {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final GuideProductRepository guideProductRepository;
+
+    // 상품 id -> 예약 가능 날짜, 값은 교체만 하고 수정하지 않음, 전체를 다시 읽으면 맵을 통째로 교체
+    private volatile Map<Long, Availability> availabilities = new ConcurrentHashMap<>();
+    private final Set<Long> changedProducts = ConcurrentHashMap.newKeySet();
+    private volatile boolean reloadAll = true;
+    private volatile boolean pending = true;
+    // 조회 스레드 대신 변경을 반영하는 스레드, 한 번에 한 작업만 대기
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "guide-product-availability-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+
+    // 첫 인덱스는 요청을 받기 전에 만듦
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        requestReload();
+        refresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    // 지난 예약을 정리하기 위해 주기적으로 전체를 다시 읽음
+    @Scheduled(fixedDelayString = "${guide-product.availability.reload-ms:3600000}", initialDelayString = "${guide-product.availability.reload-ms:3600000}")
+    public void requestReload() {
+        reloadAll = true;
+        pending = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGuideProductChanged(GuideProductChangedEvent event) {
+        changedProducts.add(event.getProductId());
+        pending = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        changedProducts.add(event.getProductId());
+        pending = true;
+    }
+
+    // from ~ to (포함) 중 오늘 이후 예약 가능한 날이 있는지
+    public boolean hasFreeDay(Long productId, LocalDate from, LocalDate to) {
+        return freeDayFilter(from, to).test(productId);
+    }
+
+    // 여러 상품을 확인할 때 쓰는 hasFreeDay, 한 검색 안에서는 같은 날짜 맵으로 확인
+    public LongPredicate freeDayFilter(LocalDate from, LocalDate to) {
+        Map<Long, Availability> availabilities = current();
+        long low = clamp(from);
+        long high = to.toEpochDay();
+        return productId -> {
+            Availability availability = availabilities.get(productId);
+            return availability != null && availability.firstFreeDay(low, high) >= 0;
+        };
+    }
+
+    // from ~ to (포함) 중 오늘 이후 예약 가능한 날짜
+    public List<LocalDate> getFreeDays(Long productId, LocalDate from, LocalDate to) {
+        Availability availability = current().get(productId);
+        if (availability == null) return List.of();
+
+        List<LocalDate> freeDays = new ArrayList<>();
+        long day = availability.firstFreeDay(clamp(from), to.toEpochDay());
+        while (day >= 0) {
+            freeDays.add(LocalDate.ofEpochDay(day));
+            day = availability.firstFreeDay(day + 1, to.toEpochDay());
+        }
+        return freeDays;
+    }
+
+    private static long clamp(LocalDate from) {
+        return Math.max(from.toEpochDay(), LocalDate.now(ZONE).toEpochDay());
+    }
+
+    /**
+     * 대기 중인 변경을 반영합니다. 반영하는 동안 들어온 변경은 다음 조회에서 반영합니다.
+     */
+    public synchronized void refresh() {
+        if (!pending) return;
+
+        pending = false;
+        try {
+            apply();
+        } catch (RuntimeException e) {
+            reloadAll = true;
+            pending = true;
+            throw e;
+        }
+    }
+
+    // 대기 중인 변경이 있으면 백그라운드 반영을 맡기고, 조회는 기다리지 않고 현재 날짜를 사용
+    private Map<Long, Availability> current() {
+        if (pending && reloadQueued.compareAndSet(false, true)) {
+            try {
+                reloader.execute(() -> {
+                    try {
+                        refresh();
+                    } catch (RuntimeException e) {
+                        log.warn("가이드 상품 예약 가능 날짜 인덱스 갱신 실패", e);
+                    } finally {
+                        reloadQueued.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                reloadQueued.set(false);
+            }
+        }
+        return availabilities;
+    }
+
+    private void apply() {
+        LocalDate today = LocalDate.now(ZONE);
+
+        if (reloadAll) {
+            reloadAll = false;
+            changedProducts.clear();
+
+            List<GuideProductPeriodDto> periods = guideProductRepository.findPeriods(null);
+            Map<Long, List<LocalDate>> fullDays = guideProductRepository.findFullDays(null, today);
+
+            Map<Long, Availability> loaded = new ConcurrentHashMap<>();
+            periods.forEach(period -> loaded.put(period.getId(), Availability.of(period, fullDays.getOrDefault(period.getId(), List.of()))));
+            availabilities = loaded;
+            log.info("가이드 상품 예약 가능 날짜 인덱스 로딩 완료: {}건", periods.size());
+            return;
+        }
+
+        List<Long> productIds = new ArrayList<>(changedProducts);
+        productIds.forEach(changedProducts::remove);
+        if (productIds.isEmpty()) return;
+
+        List<GuideProductPeriodDto> periods = guideProductRepository.findPeriods(productIds);
+        Map<Long, List<LocalDate>> fullDays = guideProductRepository.findFullDays(productIds, today);
+
+        // 조회 중인 상품이 잠시 빠지지 않도록 새 값으로 덮어쓰고, 없어진 상품만 지움
+        Set<Long> loadedIds = new HashSet<>();
+        periods.forEach(period -> {
+            availabilities.put(period.getId(), Availability.of(period, fullDays.getOrDefault(period.getId(), List.of())));
+            loadedIds.add(period.getId());
+        });
+        productIds.stream().filter(id -> !loadedIds.contains(id)).forEach(availabilities::remove);
+    }
+
+    /**
+     * 상품 하나의 예약 가능 날짜
+     *
+     * @param firstDay 가이드 기간 시작일(epoch day)
+     * @param lastDay  가이드 기간 종료일(epoch day)
+     * @param booked   firstDay 로부터 떨어진 일 수 위치에 예약 인원이 다 찬 날 표시
+     */
+    record Availability(long firstDay, long lastDay, BitSet booked) {
+
+        static Availability of(GuideProductPeriodDto period, List<LocalDate> fullDays) {
+            long firstDay = period.getGuideStart().withZoneSameInstant(ZONE).toLocalDate().toEpochDay();
+            long lastDay = period.getGuideEnd().withZoneSameInstant(ZONE).toLocalDate().toEpochDay();
+
+            BitSet booked = new BitSet();
+            for (LocalDate fullDay : fullDays) {
+                long day = fullDay.toEpochDay();
+                if (day >= firstDay && day <= lastDay) booked.set((int) (day - firstDay));
+            }
+            return new Availability(firstDay, lastDay, booked);
+        }
+
+        // from ~ to (포함) 중 첫 예약 가능한 날(epoch day), 없으면 -1
+        long firstFreeDay(long from, long to) {
+            long low = Math.max(from, firstDay);
+            long high = Math.min(to, lastDay);
+            if (low > high) return -1;
+
+            long free = firstDay + booked.nextClearBit((int) (low - firstDay));
+            return free <= high ? free : -1;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.DayTime;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductFacetResponse;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSearchCondition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 필터 패널의 패싯(카테고리별 수, 가격 분포, 진행 시간 분포, 시간대별 수) 계산
+ * <p>
+ * {@link GuideProductSearchIndex} 의 스냅샷을 한 번 순회해 모든 패싯을 계산합니다.
+ * 각 패싯은 자기 조건만 제외한 나머지 조건으로 계산해 다른 값을 선택했을 때의 결과 수를 보여줍니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GuideProductFacetIndex {
+
+    // 가격 구간 크기, 마지막 구간은 PRICE_STEP * PRICE_BUCKETS 이상
+    private static final long PRICE_STEP = 20000;
+    private static final int PRICE_BUCKETS = 10;
+    // 진행 시간 구간 시작값, 마지막 구간은 13시간 이상
+    private static final int[] DURATION_BOUNDS = {1, 3, 5, 7, 13};
+    private static final List<GuideCategoryCode> FACET_CATEGORIES = List.of(GuideCategoryCode.DINING, GuideCategoryCode.TOUR,
+            GuideCategoryCode.OUTDOOR, GuideCategoryCode.ENTERTAINMENT, GuideCategoryCode.ART_CULTURE, GuideCategoryCode.SPORTS_FITNESS);
+    private static final List<DayTime> FACET_DAY_TIMES = List.of(DayTime.DAWN, DayTime.MORNING, DayTime.LUNCH, DayTime.EVENING);
+
+    private final GuideProductSearchIndex searchIndex;
+
+    public GuideProductFacetResponse count(GuideProductSearchCondition condition) {
+        long[] total = new long[1];
+        long[] categoryCounts = new long[GuideCategoryCode.values().length];
+        long[] priceCounts = new long[PRICE_BUCKETS + 1];
+        long[] durationCounts = new long[DURATION_BOUNDS.length];
+        long[] dayTimeCounts = new long[DayTime.values().length];
+
+        searchIndex.forEachFacetRow(condition, (categoryMask, price, duration, startSecond,
+                                                category, priceMatched, durationMatched, dayTime) -> {
+            int failed = (category ? 0 : 1) + (priceMatched ? 0 : 1) + (durationMatched ? 0 : 1) + (dayTime ? 0 : 1);
+            if (failed > 1) return;
+
+            // 모든 조건에 부합하면 모든 패싯에, 하나만 어긋나면 그 조건의 패싯에만 포함
+            if (failed == 0) total[0]++;
+            if (priceMatched && durationMatched && dayTime) {
+                for (GuideCategoryCode code : FACET_CATEGORIES) {
+                    if ((categoryMask & (1 << code.ordinal())) != 0) categoryCounts[code.ordinal()]++;
+                }
+            }
+            if (category && durationMatched && dayTime) priceCounts[priceBucket(price)]++;
+            if (category && priceMatched && dayTime) durationCounts[durationBucket(duration)]++;
+            if (category && priceMatched && durationMatched) {
+                for (DayTime facet : FACET_DAY_TIMES) {
+                    if (GuideProductSearchIndex.contains(facet, startSecond)) dayTimeCounts[facet.ordinal()]++;
+                }
+            }
+        });
+
+        Map<GuideCategoryCode, Long> categoryFacet = new EnumMap<>(GuideCategoryCode.class);
+        FACET_CATEGORIES.forEach(code -> categoryFacet.put(code, categoryCounts[code.ordinal()]));
+        Map<DayTime, Long> dayTimeFacet = new EnumMap<>(DayTime.class);
+        FACET_DAY_TIMES.forEach(facet -> dayTimeFacet.put(facet, dayTimeCounts[facet.ordinal()]));
+
+        List<GuideProductFacetResponse.Bucket> priceFacet = new ArrayList<>();
+        for (int b = 0; b <= PRICE_BUCKETS; b++) {
+            priceFacet.add(new GuideProductFacetResponse.Bucket(b * PRICE_STEP,
+                    b == PRICE_BUCKETS ? null : (b + 1) * PRICE_STEP - 1, priceCounts[b]));
+        }
+        List<GuideProductFacetResponse.Bucket> durationFacet = new ArrayList<>();
+        for (int b = 0; b < DURATION_BOUNDS.length; b++) {
+            durationFacet.add(new GuideProductFacetResponse.Bucket(DURATION_BOUNDS[b],
+                    b == DURATION_BOUNDS.length - 1 ? null : (long) DURATION_BOUNDS[b + 1] - 1, durationCounts[b]));
+        }
+
+        return GuideProductFacetResponse.builder()
+                .totalCount(total[0])
+                .categories(categoryFacet)
+                .prices(priceFacet)
+                .durations(durationFacet)
+                .dayTimes(dayTimeFacet)
+                .build();
+    }
+
+    private static int priceBucket(long price) {
+        return (int) Math.min(Math.max(price, 0) / PRICE_STEP, PRICE_BUCKETS);
+    }
+
+    private static int durationBucket(int duration) {
+        for (int b = DURATION_BOUNDS.length - 1; b > 0; b--) {
+            if (duration >= DURATION_BOUNDS[b]) return b;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,225 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductLocationDto;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가이드 상품 위치(id -> 좌표)를 위경도 격자로 나누어 메모리에 보관하는 공간 인덱스
+ * <p>
+ * 반경 검색과 k-최근접 검색은 인덱스에서 상품 id만 찾고, 응답 데이터는 DB에서 id로 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuideProductLocationIndex {
+
+    // 격자 한 칸의 크기(도 단위), 위도 방향 약 5.5km
+    private static final double CELL_DEGREES = 0.05;
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+    // k-최근접 검색 시 확장할 최대 격자 링 수, 넘어가면 전체 탐색
+    private static final int MAX_RING = 200;
+
+    private final GuideProductRepository guideProductRepository;
+
+    // 상품 id -> {위도, 경도}
+    private final Map<Long, double[]> locations = new ConcurrentHashMap<>();
+    // 격자 key -> 상품 id 목록
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<GuideProductLocationDto> products = guideProductRepository.findAllLocations();
+
+        synchronized (this) {
+            locations.clear();
+            cells.clear();
+            products.forEach(product -> put(product.getId(), product.getLocation()));
+        }
+
+        log.info("가이드 상품 위치 인덱스 로딩 완료: {}건", products.size());
+    }
+
+    // 인덱스를 사용하는 캐시보다 먼저 갱신
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGuideProductChanged(GuideProductChangedEvent event) {
+        if (event.isDeleted()) remove(event.getProductId());
+        else put(event.getProductId(), event.getLocation());
+    }
+
+    public synchronized void put(Long productId, Point location) {
+        remove(productId);
+
+        double latitude = location.getY();
+        double longitude = location.getX();
+
+        locations.put(productId, new double[]{latitude, longitude});
+        cells.computeIfAbsent(cellKey(row(latitude), col(longitude)), key -> ConcurrentHashMap.newKeySet())
+                .add(productId);
+    }
+
+    public synchronized void remove(Long productId) {
+        double[] location = locations.remove(productId);
+        if (location == null) return;
+
+        long key = cellKey(row(location[0]), col(location[1]));
+        Set<Long> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(productId);
+            if (cell.isEmpty()) cells.remove(key);
+        }
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    // 반경(m) 내 상품 id를 가까운 순으로 최대 limit개 반환
+    public List<Long> findWithinRadius(double latitude, double longitude, double radiusMeters, int limit) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double lonDelta = latDelta / Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int row = row(latitude - latDelta); row <= row(latitude + latDelta); row++) {
+            for (int col = col(longitude - lonDelta); col <= col(longitude + lonDelta); col++) {
+                collect(cells.get(cellKey(row, col)), latitude, longitude, radiusMeters, candidates);
+            }
+        }
+
+        return nearestIds(candidates, limit);
+    }
+
+    // 가장 가까운 상품 id를 가까운 순으로 k개 반환
+    public List<Long> findNearest(double latitude, double longitude, int k) {
+        if (k <= 0 || locations.isEmpty()) return List.of();
+
+        int centerRow = row(latitude);
+        int centerCol = col(longitude);
+        double cellWidthMeters = CELL_DEGREES * METERS_PER_DEGREE * Math.min(1, Math.cos(Math.toRadians(latitude)));
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int ring = 0; ring <= MAX_RING; ring++) {
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                for (int col = centerCol - ring; col <= centerCol + ring; col++) {
+                    if (Math.abs(row - centerRow) != ring && Math.abs(col - centerCol) != ring) continue;
+                    collect(cells.get(cellKey(row, col)), latitude, longitude, Double.MAX_VALUE, candidates);
+                }
+            }
+
+            if (candidates.size() >= k) {
+                candidates.sort(Comparator.comparingDouble(Candidate::distance));
+                // 탐색한 링 바깥의 상품은 ring * 격자 폭보다 멀리 있음
+                if (candidates.get(k - 1).distance() <= ring * cellWidthMeters) return nearestIds(candidates, k);
+            }
+        }
+
+        candidates.clear();
+        locations.forEach((id, location) -> candidates.add(
+                new Candidate(id, distanceMeters(latitude, longitude, location[0], location[1]))));
+        return nearestIds(candidates, k);
+    }
+
+    // 영역(south, west, north, east) 내 상품 위치, west > east 이면 날짜 변경선을 넘는 영역
+    public List<IndexedLocation> findInBox(double south, double west, double north, double east) {
+        boolean wrapped = west > east;
+        long rows = (long) row(north) - row(south) + 1;
+        long cols = wrapped ? (long) col(180) - col(west) + 1 + col(east) - col(-180) + 1 : (long) col(east) - col(west) + 1;
+
+        List<IndexedLocation> found = new ArrayList<>();
+        // 영역의 격자 수가 상품 수보다 많으면 전체 탐색이 더 빠름
+        if (rows * cols > locations.size()) {
+            locations.forEach((id, location) -> {
+                if (inBox(location, south, west, north, east)) found.add(new IndexedLocation(id, location[0], location[1]));
+            });
+            return found;
+        }
+
+        for (int row = row(south); row <= row(north); row++) {
+            if (wrapped) {
+                collectInBox(row, col(west), col(180), south, west, north, east, found);
+                collectInBox(row, col(-180), col(east), south, west, north, east, found);
+            } else collectInBox(row, col(west), col(east), south, west, north, east, found);
+        }
+        return found;
+    }
+
+    private void collectInBox(int row, int fromCol, int toCol, double south, double west, double north, double east,
+                              List<IndexedLocation> found) {
+        for (int col = fromCol; col <= toCol; col++) {
+            Set<Long> cell = cells.get(cellKey(row, col));
+            if (cell == null) continue;
+
+            for (Long id : cell) {
+                double[] location = locations.get(id);
+                if (location != null && inBox(location, south, west, north, east))
+                    found.add(new IndexedLocation(id, location[0], location[1]));
+            }
+        }
+    }
+
+    private static boolean inBox(double[] location, double south, double west, double north, double east) {
+        if (location[0] < south || location[0] > north) return false;
+        return west <= east ? location[1] >= west && location[1] <= east : location[1] >= west || location[1] <= east;
+    }
+
+    private void collect(Set<Long> cell, double latitude, double longitude, double radiusMeters, List<Candidate> candidates) {
+        if (cell == null) return;
+
+        for (Long id : cell) {
+            double[] location = locations.get(id);
+            if (location == null) continue;
+
+            double distance = distanceMeters(latitude, longitude, location[0], location[1]);
+            if (distance <= radiusMeters) candidates.add(new Candidate(id, distance));
+        }
+    }
+
+    private static List<Long> nearestIds(List<Candidate> candidates, int limit) {
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(Candidate::distance))
+                .limit(limit)
+                .map(Candidate::id)
+                .toList();
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int col(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+
+    private record Candidate(Long id, double distance) {
+    }
+
+    public record IndexedLocation(Long id, double latitude, double longitude) {
+    }
+}
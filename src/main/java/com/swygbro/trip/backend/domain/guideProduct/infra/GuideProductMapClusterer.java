@@ -0,0 +1,93 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductMapResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 지도 화면에 표시할 가이드 상품 위치
+ * <p>
+ * 위치 인덱스에서 영역 내 상품을 찾아, 확대 수준이 낮으면 geohash 칸 단위로 묶고 높으면 개별 위치를 반환합니다.
+ * DB는 조회하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GuideProductMapClusterer {
+
+    // 이 확대 수준부터 개별 위치 반환
+    static final int MARKER_ZOOM = 15;
+    // 개별 위치 최대 개수, 넘으면 가장 작은 칸으로 묶음
+    static final int MAX_MARKERS = 500;
+    static final int MAX_PRECISION = 8;
+    static final int SAMPLE_SIZE = 3;
+
+    private final GuideProductLocationIndex locationIndex;
+
+    public GuideProductMapResponse find(double south, double west, double north, double east, int zoom) {
+        List<GuideProductLocationIndex.IndexedLocation> locations = locationIndex.findInBox(south, west, north, east);
+
+        if (zoom >= MARKER_ZOOM && locations.size() <= MAX_MARKERS) {
+            return GuideProductMapResponse.builder()
+                    .totalCount(locations.size())
+                    .clusters(List.of())
+                    .markers(locations.stream()
+                            .sorted(Comparator.comparing(GuideProductLocationIndex.IndexedLocation::id).reversed())
+                            .map(location -> new GuideProductMapResponse.Marker(location.id(), location.latitude(), location.longitude()))
+                            .toList())
+                    .build();
+        }
+
+        int precision = zoom >= MARKER_ZOOM ? MAX_PRECISION : precision(zoom);
+        Map<String, Accumulator> cells = new HashMap<>();
+        locations.forEach(location -> cells
+                .computeIfAbsent(GeoHash.encode(location.latitude(), location.longitude(), precision), hash -> new Accumulator())
+                .add(location));
+
+        return GuideProductMapResponse.builder()
+                .totalCount(locations.size())
+                .clusters(cells.entrySet().stream()
+                        .map(entry -> entry.getValue().toCluster(entry.getKey()))
+                        .sorted(Comparator.comparingLong(GuideProductMapResponse.Cluster::getCount).reversed()
+                                .thenComparing(GuideProductMapResponse.Cluster::getGeohash))
+                        .toList())
+                .markers(List.of())
+                .build();
+    }
+
+    // 확대 수준 z 의 타일 한 장은 경도 360 / 2^z 도, 타일 하나를 2 x 2 칸 정도로 나누는 geohash 정밀도
+    static int precision(int zoom) {
+        return Math.max(1, Math.min(MAX_PRECISION, Math.round((2 * zoom + 2) / 5f)));
+    }
+
+    private static final class Accumulator {
+        private long count;
+        private double latitudeSum;
+        private double longitudeSum;
+        // 가장 큰(최신) id SAMPLE_SIZE 개, 내림차순
+        private final long[] samples = new long[SAMPLE_SIZE];
+        private int sampleCount;
+
+        private void add(GuideProductLocationIndex.IndexedLocation location) {
+            count++;
+            latitudeSum += location.latitude();
+            longitudeSum += location.longitude();
+
+            long id = location.id();
+            int position = sampleCount;
+            while (position > 0 && samples[position - 1] < id) position--;
+            if (position >= SAMPLE_SIZE) return;
+
+            System.arraycopy(samples, position, samples, position + 1, Math.min(sampleCount, SAMPLE_SIZE - 1) - position);
+            samples[position] = id;
+            sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+        }
+
+        private GuideProductMapResponse.Cluster toCluster(String geohash) {
+            List<Long> sampleIds = new ArrayList<>(sampleCount);
+            for (int i = 0; i < sampleCount; i++) sampleIds.add(samples[i]);
+            return new GuideProductMapResponse.Cluster(geohash, count, latitudeSum / count, longitudeSum / count, sampleIds);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductRankingStatDto;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductRegionsReassignedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 지역별 추천(BEST) 가이드 상품 순위
+ * <p>
+ * 리뷰 수, 평균 평점, 최근 예약 수로 점수를 계산해 지역별 상위 상품 id를 메모리에 보관합니다.
+ * 평균 평점은 리뷰가 적은 상품이 과대평가되지 않도록 전체 평균 쪽으로 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuideProductRanking {
+
+    // 지역별 보관할 상위 상품 수
+    private static final int TOP_K = 20;
+    // 최근 예약으로 집계할 기간(일)
+    private static final int RECENT_DAYS = 30;
+    // 평점 보정에 사용할 가상 리뷰 수
+    private static final double PRIOR_REVIEWS = 5;
+    private static final double REVIEW_WEIGHT = 0.5;
+    private static final double RESERVATION_WEIGHT = 1.0;
+
+    private final GuideProductRepository guideProductRepository;
+    private final MainPageCache mainPageCache;
+
+    private volatile Map<String, List<Long>> topByRegion = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${guide-product.ranking.refresh-ms:600000}", initialDelayString = "${guide-product.ranking.refresh-ms:600000}")
+    public void refresh() {
+        List<GuideProductRankingStatDto> stats = guideProductRepository.findRankingStats(ZonedDateTime.now().minusDays(RECENT_DAYS));
+
+        topByRegion = rank(stats, TOP_K);
+        mainPageCache.clearBest();
+
+        log.info("추천 가이드 상품 순위 계산 완료: 상품 {}건, 지역 {}개", stats.size(), topByRegion.size());
+    }
+
+    // 상품 지역이 한꺼번에 바뀌면 지역별 순위를 다시 계산
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRegionsReassigned(GuideProductRegionsReassignedEvent event) {
+        refresh();
+    }
+
+    // 지역의 추천 상품 id를 순위대로 최대 limit 개, 계산 전이면 빈 목록
+    public List<Long> getTop(String region, int limit) {
+        List<Long> ranked = topByRegion.getOrDefault(region, List.of());
+        return ranked.subList(0, Math.min(limit, ranked.size()));
+    }
+
+    static Map<String, List<Long>> rank(List<GuideProductRankingStatDto> stats, int k) {
+        long totalReviews = stats.stream().mapToLong(GuideProductRankingStatDto::getReviewCount).sum();
+        double globalAverage = totalReviews == 0 ? 0 : stats.stream()
+                .mapToDouble(stat -> stat.getAverageRating() * stat.getReviewCount()).sum() / totalReviews;
+
+        Map<String, List<GuideProductRankingStatDto>> byRegion = stats.stream()
+                .collect(Collectors.groupingBy(GuideProductRankingStatDto::getRegionName));
+
+        Map<String, List<Long>> ranked = new HashMap<>();
+        byRegion.forEach((region, products) -> ranked.put(region, products.stream()
+                .sorted(Comparator.comparingDouble((GuideProductRankingStatDto stat) -> score(stat, globalAverage)).reversed()
+                        .thenComparing(GuideProductRankingStatDto::getProductId, Comparator.reverseOrder()))
+                .limit(k)
+                .map(GuideProductRankingStatDto::getProductId)
+                .toList()));
+        return Collections.unmodifiableMap(ranked);
+    }
+
+    static double score(GuideProductRankingStatDto stat, double globalAverage) {
+        double adjustedRating = (PRIOR_REVIEWS * globalAverage + stat.getAverageRating() * stat.getReviewCount())
+                / (PRIOR_REVIEWS + stat.getReviewCount());
+
+        return adjustedRating
+                + REVIEW_WEIGHT * Math.log1p(stat.getReviewCount())
+                + RESERVATION_WEIGHT * Math.log1p(stat.getRecentReservationCount());
+    }
+}
@@ -0,0 +1,519 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.CategoryMatch;
+import com.swygbro.trip.backend.domain.guideProduct.domain.DayTime;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSearchCondition;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSearchRowDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.SearchCategoriesRequest;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductChangedEvent;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductRegionsReassignedEvent;
+import com.swygbro.trip.backend.domain.user.domain.Language;
+import com.swygbro.trip.backend.domain.user.event.UserChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongPredicate;
+
+/**
+ * 가이드 상품 검색용 읽기 모델
+ * <p>
+ * 상품 하나당 검색 조건에 쓰이는 속성(지역, 카테고리 비트, 가격, 진행 시간, 시작 시간,
+ * 가이드 국적과 사용 언어, 위치)을 하나의 문서로 펼쳐 보관하고, 검색 시 id 순으로 정렬된 열 단위 배열을 순회합니다.
+ * 검색 API는 조건에 맞는 상품 id만 여기서 찾고, 응답 데이터는 DB에서 id로 조회합니다.
+ * 날짜 조건은 {@link GuideProductAvailabilityIndex} 의 예약 가능 날짜로 확인하고,
+ * 검색 필터 패널의 패싯은 {@link GuideProductFacetIndex} 가 같은 스냅샷으로 계산합니다.
+ * <p>
+ * 상품, 사용자 변경 이벤트가 오면 해당 문서만 다음 요청 때 백그라운드 스레드에서 다시 읽어 새 스냅샷으로 교체하고,
+ * 주기적으로 전체를 다시 읽어 누락을 보정합니다. 다시 읽는 동안 요청은 기존 스냅샷으로 검색합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuideProductSearchIndex {
+
+    private static final double NEAR_RADIUS = 30000;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    // 사용 언어 비트맵 한 개의 long 수
+    private static final int LANGUAGE_WORDS = (Language.values().length + Long.SIZE - 1) / Long.SIZE;
+
+    private final GuideProductRepository guideProductRepository;
+    private final GuideProductAvailabilityIndex availabilityIndex;
+
+    // 상품 id -> 검색 문서, this 로 동기화
+    private final Map<Long, Document> documents = new HashMap<>();
+    // 다음 요청에서 다시 읽을 상품, 가이드
+    private final Set<Long> changedProducts = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedHosts = ConcurrentHashMap.newKeySet();
+    private volatile boolean reloadAll = true;
+    private volatile boolean pending = true;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // 요청 스레드 대신 변경을 반영하는 스레드, 한 번에 한 작업만 대기
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "guide-product-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+
+    // 첫 스냅샷은 요청을 받기 전에 만듦
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        requestReload();
+        refresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${guide-product.search-index.reload-ms:600000}", initialDelayString = "${guide-product.search-index.reload-ms:600000}")
+    public void requestReload() {
+        reloadAll = true;
+        pending = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGuideProductChanged(GuideProductChangedEvent event) {
+        changedProducts.add(event.getProductId());
+        pending = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        changedHosts.add(event.getUserId());
+        pending = true;
+    }
+
+    // 상품 지역이 한꺼번에 바뀌면 전체를 다시 읽음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRegionsReassigned(GuideProductRegionsReassignedEvent event) {
+        requestReload();
+    }
+
+    // 조건에 맞는 상품 id (등록순), offset 부터 limit 개와 전체 수
+    public SearchResult search(GuideProductSearchCondition condition, long offset, int limit) {
+        Snapshot current = current();
+        Filter filter = new Filter(condition, availabilityIndex);
+        int[] candidates = filter.candidates(current, true);
+
+        List<Long> ids = new ArrayList<>(limit);
+        long total = 0;
+        for (int k = 0, n = count(current, candidates); k < n; k++) {
+            int i = position(candidates, k);
+            if (!filter.matches(current, i)) continue;
+            if (total++ >= offset && ids.size() < limit) ids.add(current.ids[i]);
+        }
+        return new SearchResult(ids, total);
+    }
+
+    // 조건에 맞는 상품 id (최신 등록순), lastId 보다 작은 id 중 limit 개
+    public List<Long> searchBefore(GuideProductSearchCondition condition, Long lastId, int limit) {
+        Snapshot current = current();
+        Filter filter = new Filter(condition, availabilityIndex);
+
+        int[] candidates = filter.candidates(current, true);
+
+        // 후보 위치는 id 오름차순이므로 lastId 보다 작은 마지막 후보부터 거꾸로 순회
+        int from = count(current, candidates) - 1;
+        if (lastId != null) {
+            int position = Arrays.binarySearch(current.ids, lastId);
+            from = (position >= 0 ? position : -position - 1) - 1;
+            if (candidates != null) {
+                int k = Arrays.binarySearch(candidates, from + 1);
+                from = (k >= 0 ? k : -k - 1) - 1;
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(limit);
+        for (int k = from; k >= 0 && ids.size() < limit; k--) {
+            int i = position(candidates, k);
+            if (filter.matches(current, i)) ids.add(current.ids[i]);
+        }
+        return ids;
+    }
+
+    public long count(GuideProductSearchCondition condition) {
+        Snapshot current = current();
+        Filter filter = new Filter(condition, availabilityIndex);
+        int[] candidates = filter.candidates(current, true);
+
+        long total = 0;
+        for (int k = 0, n = count(current, candidates); k < n; k++) {
+            if (filter.matches(current, position(candidates, k))) total++;
+        }
+        return total;
+    }
+
+    /**
+     * 패싯 계산을 위해 패싯으로 보여주지 않는 조건(지역/날짜, 국적, 언어, 키워드)에 맞는 상품을 순회합니다.
+     * 패싯 조건(카테고리, 가격, 진행 시간, 시간대)은 걸러내지 않고 조건별 일치 여부를 함께 넘깁니다.
+     */
+    void forEachFacetRow(GuideProductSearchCondition condition, FacetRowConsumer consumer) {
+        Snapshot current = current();
+        Filter filter = new Filter(condition, availabilityIndex);
+        // 카테고리 지역 조건은 카테고리 패싯에서 제외하므로 후보를 줄이는 데 쓰지 않음
+        int[] candidates = filter.candidates(current, false);
+
+        for (int k = 0, n = count(current, candidates); k < n; k++) {
+            int i = position(candidates, k);
+            if (!filter.matchesCommon(current, i)) continue;
+
+            consumer.accept(current.categoryMasks[i], current.prices[i], current.durations[i], current.startSeconds[i],
+                    filter.matchesCategory(current, i),
+                    filter.matchesPrice(current.prices[i]),
+                    filter.matchesDuration(current.durations[i]),
+                    filter.matchesDayTime(current.startSeconds[i]));
+        }
+    }
+
+    public int size() {
+        return current().size;
+    }
+
+    /**
+     * 대기 중인 변경을 반영해 새 스냅샷으로 교체합니다. 반영하는 동안 들어온 변경은 다음 요청에서 반영합니다.
+     */
+    public synchronized void refresh() {
+        if (!pending) return;
+
+        pending = false;
+        try {
+            apply();
+        } catch (RuntimeException e) {
+            reloadAll = true;
+            pending = true;
+            throw e;
+        }
+    }
+
+    // 대기 중인 변경이 있으면 백그라운드 반영을 맡기고, 요청은 기다리지 않고 현재 스냅샷을 사용
+    private Snapshot current() {
+        if (pending && reloadQueued.compareAndSet(false, true)) {
+            try {
+                reloader.execute(() -> {
+                    try {
+                        refresh();
+                    } catch (RuntimeException e) {
+                        log.warn("가이드 상품 검색 인덱스 갱신 실패", e);
+                    } finally {
+                        reloadQueued.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                reloadQueued.set(false);
+            }
+        }
+        return snapshot;
+    }
+
+    private static int count(Snapshot snapshot, int[] candidates) {
+        return candidates == null ? snapshot.size : candidates.length;
+    }
+
+    private static int position(int[] candidates, int k) {
+        return candidates == null ? k : candidates[k];
+    }
+
+    private void apply() {
+        if (reloadAll) {
+            reloadAll = false;
+            changedProducts.clear();
+            changedHosts.clear();
+
+            List<GuideProductSearchRowDto> rows = guideProductRepository.findSearchRows(null, null);
+            documents.clear();
+            put(rows, guideProductRepository.findCategoryCodes(null), guideProductRepository.findHostLanguages(null));
+            log.info("가이드 상품 검색 인덱스 로딩 완료: {}건", rows.size());
+        } else {
+            List<Long> productIds = drain(changedProducts);
+            List<Long> hostIds = drain(changedHosts);
+            if (productIds.isEmpty() && hostIds.isEmpty()) return;
+            Set<Long> changedHostIds = new HashSet<>(hostIds);
+
+            List<GuideProductSearchRowDto> rows = guideProductRepository.findSearchRows(productIds, hostIds);
+            List<Long> loadedIds = rows.stream().map(GuideProductSearchRowDto::getId).toList();
+            List<Long> loadedHostIds = rows.stream().map(GuideProductSearchRowDto::getHostId).distinct().toList();
+
+            // 삭제되었거나 다른 가이드로 옮겨간 상품도 제거되도록 기존 문서를 먼저 지움
+            productIds.forEach(documents::remove);
+            if (!changedHostIds.isEmpty()) {
+                documents.values().removeIf(document -> changedHostIds.contains(document.hostId()));
+            }
+            put(rows, loadedIds.isEmpty() ? Map.of() : guideProductRepository.findCategoryCodes(loadedIds),
+                    loadedHostIds.isEmpty() ? Map.of() : guideProductRepository.findHostLanguages(loadedHostIds));
+        }
+        snapshot = Snapshot.of(documents.values());
+    }
+
+    private void put(List<GuideProductSearchRowDto> rows, Map<Long, List<GuideCategoryCode>> categories,
+                     Map<Long, List<Language>> hostLanguages) {
+        Map<Long, long[]> languagesByHost = new HashMap<>();
+        rows.forEach(row -> documents.put(row.getId(), Document.of(row, categories.getOrDefault(row.getId(), List.of()),
+                languagesByHost.computeIfAbsent(row.getHostId(),
+                        hostId -> languageBits(hostLanguages.getOrDefault(hostId, List.of()))))));
+    }
+
+    private static List<Long> drain(Set<Long> changed) {
+        List<Long> ids = new ArrayList<>(changed);
+        ids.forEach(changed::remove);
+        return ids;
+    }
+
+    private static long[] languageBits(List<Language> languages) {
+        long[] words = new long[LANGUAGE_WORDS];
+        languages.forEach(language -> words[language.ordinal() / Long.SIZE] |= 1L << language.ordinal());
+        return words;
+    }
+
+    private static int categoryBits(Collection<GuideCategoryCode> codes) {
+        int mask = 0;
+        for (GuideCategoryCode code : codes) mask |= 1 << code.ordinal();
+        return mask;
+    }
+
+    static boolean contains(DayTime dayTime, int startSecond) {
+        return startSecond >= dayTime.getStart().toSecondOfDay() && startSecond <= dayTime.getEnd().toSecondOfDay();
+    }
+
+    public record SearchResult(List<Long> ids, long totalCount) {
+    }
+
+    /**
+     * 패싯 계산용 상품 하나의 속성과 패싯 조건별 일치 여부
+     */
+    @FunctionalInterface
+    interface FacetRowConsumer {
+        void accept(int categoryMask, long price, int duration, int startSecond,
+                    boolean categoryMatched, boolean priceMatched, boolean durationMatched, boolean dayTimeMatched);
+    }
+
+    /**
+     * 상품 하나의 검색 문서
+     *
+     * @param categoryMask  GuideCategoryCode ordinal 비트
+     * @param startSecond   시작 시간(하루 중 초), 없으면 -1
+     * @param nationality   가이드 Nationality ordinal, 없으면 -1
+     * @param languages     가이드 사용 언어 ordinal 비트맵, 같은 가이드의 상품끼리 공유
+     */
+    private record Document(long id, String region, int categoryMask, long price, int duration,
+                            int startSecond, Long hostId, int nationality, long[] languages,
+                            double latitude, double longitude) {
+
+        static Document of(GuideProductSearchRowDto row, List<GuideCategoryCode> categories, long[] languages) {
+            return new Document(row.getId(), row.getRegionName(),
+                    categoryBits(categories),
+                    row.getPrice() == null ? 0 : row.getPrice(),
+                    row.getGuideTime(),
+                    row.getGuideStartTime() == null ? -1 : row.getGuideStartTime().toSecondOfDay(),
+                    row.getHostId(),
+                    row.getNationality() == null ? -1 : row.getNationality().ordinal(),
+                    languages,
+                    row.getLocation() == null ? Double.NaN : row.getLocation().getY(),
+                    row.getLocation() == null ? Double.NaN : row.getLocation().getX());
+        }
+    }
+
+    // 검색 문서를 id 오름차순 열 단위 배열로 펼친 불변 스냅샷
+    private static final class Snapshot {
+        static final Snapshot EMPTY = of(List.of());
+
+        private final int size;
+        private final long[] ids;
+        private final String[] regions;
+        private final int[] categoryMasks;
+        private final long[] prices;
+        private final int[] durations;
+        private final int[] startSeconds;
+        private final int[] nationalities;
+        // 상품 i 의 사용 언어 비트맵은 [i * LANGUAGE_WORDS, (i + 1) * LANGUAGE_WORDS)
+        private final long[] languageWords;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        // 지역 -> 그 지역 상품의 위치(오름차순)
+        private final Map<String, int[]> regionPositions = new HashMap<>();
+
+        private Snapshot(int size) {
+            this.size = size;
+            this.ids = new long[size];
+            this.regions = new String[size];
+            this.categoryMasks = new int[size];
+            this.prices = new long[size];
+            this.durations = new int[size];
+            this.startSeconds = new int[size];
+            this.nationalities = new int[size];
+            this.languageWords = new long[size * LANGUAGE_WORDS];
+            this.latitudes = new double[size];
+            this.longitudes = new double[size];
+        }
+
+        static Snapshot of(Collection<Document> documents) {
+            List<Document> sorted = new ArrayList<>(documents);
+            sorted.sort(Comparator.comparingLong(Document::id));
+
+            Snapshot snapshot = new Snapshot(sorted.size());
+            for (int i = 0; i < sorted.size(); i++) {
+                Document document = sorted.get(i);
+                snapshot.ids[i] = document.id();
+                snapshot.regions[i] = document.region();
+                snapshot.categoryMasks[i] = document.categoryMask();
+                snapshot.prices[i] = document.price();
+                snapshot.durations[i] = document.duration();
+                snapshot.startSeconds[i] = document.startSecond();
+                snapshot.nationalities[i] = document.nationality();
+                System.arraycopy(document.languages(), 0, snapshot.languageWords, i * LANGUAGE_WORDS, LANGUAGE_WORDS);
+                snapshot.latitudes[i] = document.latitude();
+                snapshot.longitudes[i] = document.longitude();
+            }
+
+            Map<String, List<Integer>> byRegion = new HashMap<>();
+            for (int i = 0; i < snapshot.size; i++) {
+                if (snapshot.regions[i] != null) byRegion.computeIfAbsent(snapshot.regions[i], region -> new ArrayList<>()).add(i);
+            }
+            byRegion.forEach((region, positions) ->
+                    snapshot.regionPositions.put(region, positions.stream().mapToInt(Integer::intValue).toArray()));
+            return snapshot;
+        }
+    }
+
+    // 검색 조건을 스냅샷 열에 적용, 조건이 없으면(전체 게시물) 모든 상품
+    private static final class Filter {
+        private final String region;
+        private final boolean dateFiltered;
+        // 기간 중 예약 가능한 날이 남았는지, 검색마다 한 번 만듦
+        private final LongPredicate hasFreeDay;
+        private final double[] near;
+        private final String categoryRegion;
+        // 선택한 카테고리 비트, 0 이면 카테고리 조건 없음
+        private final int categoryMask;
+        private final boolean matchAllCategories;
+        private final long minPrice;
+        private final long maxPrice;
+        private final int minDuration;
+        private final int maxDuration;
+        private final EnumSet<DayTime> dayTimes;
+        private final int nationality;
+        private final long[] languages;
+        private final Set<Long> productIds;
+
+        private Filter(GuideProductSearchCondition condition, GuideProductAvailabilityIndex availabilityIndex) {
+            boolean present = condition != null;
+            region = present ? condition.getRegion() : null;
+            dateFiltered = region != null && condition.getStart() != null && condition.getEnd() != null;
+            hasFreeDay = dateFiltered ? availabilityIndex.freeDayFilter(
+                    condition.getStart().withZoneSameInstant(ZONE).toLocalDate(),
+                    condition.getEnd().withZoneSameInstant(ZONE).toLocalDate()) : null;
+
+            SearchCategoriesRequest categories = present ? condition.getCategories() : null;
+            GuideCategoryCode category = categories == null ? null : categories.getCategory();
+            near = category == GuideCategoryCode.NEAR && categories.getLatitude() != null && categories.getLongitude() != null
+                    ? new double[]{categories.getLatitude(), categories.getLongitude()} : null;
+            // 위치 없는 NEAR, BEST 는 지역 상품
+            categoryRegion = (category == GuideCategoryCode.NEAR && near == null) || category == GuideCategoryCode.BEST ? region : null;
+
+            Set<GuideCategoryCode> selected = EnumSet.noneOf(GuideCategoryCode.class);
+            if (category != null) selected.add(category);
+            if (categories != null && categories.getCategories() != null) selected.addAll(categories.getCategories());
+            selected.removeAll(EnumSet.of(GuideCategoryCode.NEAR, GuideCategoryCode.BEST));
+            categoryMask = categoryBits(selected);
+            matchAllCategories = categories != null && categories.getCategoryMatch() == CategoryMatch.ALL;
+
+            minPrice = present && condition.getMinPrice() != null ? condition.getMinPrice() : Long.MIN_VALUE;
+            maxPrice = present && condition.getMaxPrice() != null ? condition.getMaxPrice() : Long.MAX_VALUE;
+            minDuration = present ? condition.getMinDuration() : Integer.MIN_VALUE;
+            maxDuration = present ? condition.getMaxDuration() : Integer.MAX_VALUE;
+            dayTimes = !present || condition.getDayTimes() == null || condition.getDayTimes().isEmpty()
+                    || condition.getDayTimes().contains(DayTime.ALL) ? null : EnumSet.copyOf(condition.getDayTimes());
+            nationality = present && condition.getNationality() != null ? condition.getNationality().ordinal() : -1;
+            languages = present && condition.getLanguages() != null ? languageBits(condition.getLanguages()) : null;
+            // 키워드 검색 결과로 제한, 결과가 비어있으면 일치하는 상품 없음
+            productIds = present && condition.getProductIds() != null ? condition.getProductIds() : null;
+        }
+
+        /**
+         * 검사할 상품 위치(오름차순)를 키워드 결과나 지역으로 좁힙니다. 좁힐 조건이 없으면 null(전체)을 반환합니다.
+         *
+         * @param includeCategoryRegion 카테고리 지역 조건(위치 없는 NEAR, BEST)으로도 좁힐지
+         */
+        private int[] candidates(Snapshot snapshot, boolean includeCategoryRegion) {
+            if (productIds != null) {
+                return productIds.stream()
+                        .mapToInt(id -> Arrays.binarySearch(snapshot.ids, id))
+                        .filter(position -> position >= 0)
+                        .sorted()
+                        .toArray();
+            }
+            String candidateRegion = dateFiltered ? region : includeCategoryRegion ? categoryRegion : null;
+            if (candidateRegion == null) return null;
+            return snapshot.regionPositions.getOrDefault(candidateRegion, new int[0]);
+        }
+
+        private boolean matches(Snapshot snapshot, int i) {
+            return matchesCommon(snapshot, i)
+                    && matchesCategory(snapshot, i)
+                    && matchesPrice(snapshot.prices[i])
+                    && matchesDuration(snapshot.durations[i])
+                    && matchesDayTime(snapshot.startSeconds[i]);
+        }
+
+        // 패싯으로 보여주지 않는 조건: 지역/날짜, 국적, 언어, 키워드
+        private boolean matchesCommon(Snapshot snapshot, int i) {
+            // 기간 중 예약 가능한 날이 하루 이상 남은 상품
+            if (dateFiltered && (!region.equals(snapshot.regions[i])
+                    || !hasFreeDay.test(snapshot.ids[i]))) return false;
+            if (nationality >= 0 && snapshot.nationalities[i] != nationality) return false;
+            if (languages != null && !matchesLanguage(snapshot.languageWords, i * LANGUAGE_WORDS)) return false;
+            return productIds == null || productIds.contains(snapshot.ids[i]);
+        }
+
+        // 선택한 언어 중 하나라도 사용하는 가이드
+        private boolean matchesLanguage(long[] languageWords, int offset) {
+            for (int w = 0; w < LANGUAGE_WORDS; w++) {
+                if ((languageWords[offset + w] & languages[w]) != 0) return true;
+            }
+            return false;
+        }
+
+        private boolean matchesCategory(Snapshot snapshot, int i) {
+            if (near != null && (Double.isNaN(snapshot.latitudes[i]) || GuideProductLocationIndex.distanceMeters(
+                    near[0], near[1], snapshot.latitudes[i], snapshot.longitudes[i]) > NEAR_RADIUS)) return false;
+            if (categoryRegion != null && !categoryRegion.equals(snapshot.regions[i])) return false;
+            if (categoryMask == 0) return true;
+
+            int matched = snapshot.categoryMasks[i] & categoryMask;
+            return matchAllCategories ? matched == categoryMask : matched != 0;
+        }
+
+        private boolean matchesPrice(long price) {
+            return price >= minPrice && price <= maxPrice;
+        }
+
+        private boolean matchesDuration(int duration) {
+            return duration >= minDuration && duration <= maxDuration;
+        }
+
+        private boolean matchesDayTime(int startSecond) {
+            if (dayTimes == null) return true;
+            for (DayTime dayTime : dayTimes) {
+                if (contains(dayTime, startSecond)) return true;
+            }
+            return false;
+        }
+    }
+}
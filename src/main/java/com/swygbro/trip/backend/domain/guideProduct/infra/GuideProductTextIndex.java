@@ -0,0 +1,140 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductTextDto;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가이드 상품 제목, 설명, 위치 이름 키워드 검색용 역색인
+ * <p>
+ * 띄어쓰기가 일정하지 않은 한글 검색을 위해 단어를 2-gram 으로 나누어 색인하고,
+ * 검색어의 모든 2-gram 을 포함하는 상품을 찾습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuideProductTextIndex {
+
+    private final GuideProductRepository guideProductRepository;
+
+    // 토큰 -> 상품 id 목록
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    // 상품 id -> 토큰 목록, 수정/삭제 시 기존 토큰 제거용
+    private final Map<Long, Set<String>> tokensByProduct = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<GuideProductTextDto> products = guideProductRepository.findAllTexts();
+
+        synchronized (this) {
+            postings.clear();
+            tokensByProduct.clear();
+            products.forEach(product -> put(product.getId(), product.getTitle(), product.getDescription(), product.getLocationName()));
+        }
+
+        log.info("가이드 상품 키워드 색인 완료: {}건, 토큰 {}개", products.size(), postings.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGuideProductChanged(GuideProductChangedEvent event) {
+        if (event.isDeleted()) remove(event.getProductId());
+        else put(event.getProductId(), event.getTitle(), event.getDescription(), event.getLocationName());
+    }
+
+    public synchronized void put(Long productId, String... texts) {
+        remove(productId);
+
+        Set<String> tokens = new HashSet<>();
+        for (String text : texts) tokens.addAll(indexTokens(text));
+
+        tokensByProduct.put(productId, tokens);
+        tokens.forEach(token -> postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(productId));
+    }
+
+    public synchronized void remove(Long productId) {
+        Set<String> tokens = tokensByProduct.remove(productId);
+        if (tokens == null) return;
+
+        tokens.forEach(token -> {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(productId);
+                if (ids.isEmpty()) postings.remove(token);
+            }
+        });
+    }
+
+    // 검색어의 모든 토큰을 포함하는 상품 id, 최신 등록순 최대 limit 개
+    public List<Long> search(String keyword, int limit) {
+        return match(keyword).stream().sorted(Comparator.reverseOrder()).limit(limit).toList();
+    }
+
+    // 검색어의 모든 토큰을 포함하는 상품 id 전체, 다른 검색 조건과 교집합할 때 사용
+    public Set<Long> match(String keyword) {
+        Set<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty()) return Set.of();
+
+        // 상품 수가 적은 토큰부터 교집합
+        List<Set<Long>> matches = new ArrayList<>();
+        for (String token : tokens) {
+            Set<Long> ids = token.codePointCount(0, token.length()) == 1 ? findContaining(token) : postings.get(token);
+            if (ids == null || ids.isEmpty()) return Set.of();
+            matches.add(ids);
+        }
+        matches.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(matches.get(0));
+        for (int i = 1; i < matches.size() && !result.isEmpty(); i++) result.retainAll(matches.get(i));
+        return result;
+    }
+
+    // 한 글자 검색어는 그 글자를 포함하는 모든 토큰의 상품
+    private Set<Long> findContaining(String character) {
+        Set<Long> ids = new HashSet<>();
+        postings.forEach((token, productIds) -> {
+            if (token.contains(character)) ids.addAll(productIds);
+        });
+        return ids;
+    }
+
+    // 색인 토큰, 띄어쓰기 없이 검색해도 찾을 수 있도록 단어 사이 공백을 제거하고 2-gram 으로 분리
+    static Set<String> indexTokens(String text) {
+        if (text == null) return new HashSet<>();
+        return tokenize(String.join("", normalize(text).split("[^\\p{L}\\p{N}]+")));
+    }
+
+    // 소문자, 유니코드 정규화 후 글자/숫자 단위 단어를 2-gram 으로 분리, 한 글자 단어는 그대로 사용
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) return tokens;
+
+        for (String word : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) continue;
+            if (word.codePointCount(0, word.length()) == 1) {
+                tokens.add(word);
+                continue;
+            }
+
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
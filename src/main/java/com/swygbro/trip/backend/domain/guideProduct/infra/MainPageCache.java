@@ -0,0 +1,173 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.dto.SearchGuideProductResponse;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductChangedEvent;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductRegionsReassignedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 메인 페이지 첫 화면(추천, 근처, 전체 0페이지) 캐시
+ * <p>
+ * 같은 key 의 캐시가 없을 때 동시에 들어온 요청은 하나의 로딩 결과를 함께 기다립니다.
+ * 근처 게시물은 geohash 칸 단위로 칸 중심 좌표 기준 결과를 저장하고,
+ * 가이드 상품이 변경되면 영향을 받는 항목만 제거합니다.
+ * 근처 칸은 요청 좌표마다 늘어나므로 항목 수를 제한하고, 만료된 항목은 주기적으로 제거합니다.
+ */
+@Component
+public class MainPageCache {
+
+    // 근처 게시물 캐시 geohash 정밀도, 약 1.2km x 0.6km
+    private static final int NEAR_PRECISION = 6;
+
+    @Value("${guide-product.main-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${guide-product.main-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public List<SearchGuideProductResponse> getBest(String region, Supplier<List<SearchGuideProductResponse>> loader) {
+        return get("best:" + region, null, 0, loader);
+    }
+
+    public Page<SearchGuideProductResponse> getFirstPage(Supplier<Page<SearchGuideProductResponse>> loader) {
+        return get("all:0", null, 0, loader);
+    }
+
+    public List<SearchGuideProductResponse> getNearByRegion(String region, Supplier<List<SearchGuideProductResponse>> loader) {
+        return get("near-region:" + region, null, 0, loader);
+    }
+
+    // loader 에는 geohash 칸 중심의 위도, 경도가 전달됨
+    public List<SearchGuideProductResponse> getNear(double latitude, double longitude, double radiusMeters,
+                                                    BiFunction<Double, Double, List<SearchGuideProductResponse>> loader) {
+        String hash = GeoHash.encode(latitude, longitude, NEAR_PRECISION);
+        double[] center = GeoHash.decodeCenter(hash);
+
+        return get("near:" + hash + ":" + radiusMeters, center, radiusMeters,
+                () -> loader.apply(center[0], center[1]));
+    }
+
+    // 추천 순위가 다시 계산되면 추천 게시물만 제거
+    public void clearBest() {
+        entries.keySet().removeIf(key -> key.startsWith("best:"));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 다시 요청되지 않은 만료 항목 제거
+    @Scheduled(fixedDelayString = "${guide-product.main-cache.sweep-ms:60000}", initialDelayString = "${guide-product.main-cache.sweep-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGuideProductChanged(GuideProductChangedEvent event) {
+        entries.entrySet().removeIf(entry -> entry.getValue().isAffectedBy(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRegionsReassigned(GuideProductRegionsReassignedEvent event) {
+        clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, double[] center, double radiusMeters, Supplier<T> loader) {
+        long now = System.nanoTime();
+        Entry created = new Entry(center, radiusMeters);
+        Entry entry = entries.compute(key, (k, cached) -> cached != null && !cached.isExpired(now) ? cached : created);
+
+        if (entry == created) {
+            trim(now);
+            try {
+                created.complete(loader.get(), now + TimeUnit.SECONDS.toNanos(ttlSeconds));
+            } catch (RuntimeException e) {
+                entries.remove(key, created);
+                created.value.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return (T) entry.value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    // 최대 개수를 넘으면 만료된 항목을, 그래도 넘으면 먼저 만료될 항목부터 최대 개수의 90% 까지 제거, 로딩 중인 항목은 남김
+    private void trim(long now) {
+        if (entries.size() <= maxSize) return;
+
+        entries.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+        int excess = entries.size() - maxSize * 9 / 10;
+        if (excess <= 0) return;
+
+        entries.entrySet().stream()
+                .filter(entry -> entry.getValue().value.isDone())
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt - now))
+                .limit(excess)
+                .toList()
+                .forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+        // 근처 게시물 칸 중심 {위도, 경도}, 근처 게시물이 아니면 null
+        private final double[] center;
+        private final double radiusMeters;
+        private volatile long expiresAt;
+
+        private Entry(double[] center, double radiusMeters) {
+            this.center = center;
+            this.radiusMeters = radiusMeters;
+        }
+
+        private void complete(Object result, long expiresAt) {
+            this.expiresAt = expiresAt;
+            value.complete(result);
+        }
+
+        private boolean isExpired(long now) {
+            // 로딩 중에는 만료되지 않음
+            return value.isDone() && now - expiresAt >= 0;
+        }
+
+        private boolean isAffectedBy(GuideProductChangedEvent event) {
+            // 추천, 전체, 지역 기준 근처 게시물은 어떤 상품 변경에도 달라질 수 있음
+            if (center == null) return true;
+
+            if (event.getLocation() != null && GuideProductLocationIndex.distanceMeters(center[0], center[1],
+                    event.getLocation().getY(), event.getLocation().getX()) <= radiusMeters) return true;
+
+            // 다른 곳으로 이동했거나 삭제된 상품이 캐시된 결과에 포함된 경우
+            Object result = value.getNow(null);
+            return result instanceof List<?> products && products.stream()
+                    .anyMatch(product -> ((SearchGuideProductResponse) product).getId().equals(event.getProductId()));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductDto;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductChangedEvent;
+import com.swygbro.trip.backend.domain.review.event.ReviewChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 가이드 상품 상세 캐시 (LRU + TTL)
+ * <p>
+ * 상품 수정/삭제, 리뷰 생성/수정/삭제가 커밋되면 해당 상품 항목을 제거합니다.
+ * 조회 중에 제거가 일어나면 조회 결과는 캐시에 넣지 않아 변경 전 데이터가 남지 않게 합니다.
+ */
+@Component
+public class ProductDetailCache {
+
+    @Value("${guide-product.detail-cache.max-size:1000}")
+    private int maxSize;
+
+    @Value("${guide-product.detail-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() <= maxSize) return false;
+            sizeEvictions.incrementAndGet();
+            return true;
+        }
+    };
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong sizeEvictions = new AtomicLong();
+    // 제거가 일어날 때마다 증가, 조회 중 제거 여부 판단용
+    private final AtomicLong generation = new AtomicLong();
+
+    public GuideProductDto get(Long productId, Supplier<GuideProductDto> loader) {
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            Entry entry = entries.get(productId);
+            if (entry != null && now - entry.expiresAt() < 0) {
+                hits.incrementAndGet();
+                return entry.value();
+            }
+            if (entry != null) entries.remove(productId);
+        }
+
+        misses.incrementAndGet();
+        long loadGeneration = generation.get();
+        GuideProductDto value = loader.get();
+
+        synchronized (entries) {
+            if (generation.get() == loadGeneration) {
+                entries.put(productId, new Entry(value, now + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            }
+        }
+        return value;
+    }
+
+    public void evict(Long productId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            if (entries.remove(productId) != null) invalidations.incrementAndGet();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public CacheStats getStats() {
+        synchronized (entries) {
+            return new CacheStats(entries.size(), maxSize, hits.get(), misses.get(), invalidations.get(), sizeEvictions.get());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGuideProductChanged(GuideProductChangedEvent event) {
+        evict(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        evict(event.getGuideProductId());
+    }
+
+    private record Entry(GuideProductDto value, long expiresAt) {
+    }
+
+    public record CacheStats(int size, int maxSize, long hits, long misses, long invalidations, long sizeEvictions) {
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.Region;
+import com.swygbro.trip.backend.domain.guideProduct.domain.RegionRepository;
+import com.swygbro.trip.backend.domain.guideProduct.exception.RegionNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.*;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * region 테이블의 지역 경계를 한 번만 읽어 PreparedGeometry로 보관하는 저장소
+ * <p>
+ * 이름으로 지역 경계를 조회하거나 좌표가 속한 지역을 DB 조회 없이 판별합니다.
+ * 지역 데이터가 바뀌면 {@link #refresh()}로 다시 읽어옵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionRegistry {
+
+    public static final String DEFAULT_REGION = "서울특별시";
+
+    private static final GeometryFactory geometryFactory = new GeometryFactory();
+
+    private final RegionRepository regionRepository;
+
+    private volatile Map<String, RegionShape> regions = Map.of();
+
+    // 지역 경계를 사용하는 다른 시작 작업보다 먼저 로딩
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        Map<String, RegionShape> loaded = new LinkedHashMap<>();
+        regionRepository.findAll().forEach(region -> loaded.put(region.getName(), RegionShape.of(region)));
+        regions = Collections.unmodifiableMap(loaded);
+
+        log.info("지역 경계 로딩 완료: {}건", loaded.size());
+    }
+
+    public MultiPolygon getPolygon(String name) {
+        return getShape(name).polygon();
+    }
+
+    public PreparedGeometry getPreparedPolygon(String name) {
+        return getShape(name).prepared();
+    }
+
+    // 등록된 지역 이름인지 확인, 없으면 RegionNotFoundException
+    public String requireName(String name) {
+        return getShape(name).name();
+    }
+
+    public boolean contains(String name) {
+        return regions.containsKey(name);
+    }
+
+    public Set<String> getRegionNames() {
+        return regions.keySet();
+    }
+
+    // 좌표가 속한 지역 이름
+    public Optional<String> findRegionName(double latitude, double longitude) {
+        Point point = geometryFactory.createPoint(new Coordinate(longitude, latitude));
+        return findRegionName(point);
+    }
+
+    public Optional<String> findRegionName(Point point) {
+        Coordinate coordinate = point.getCoordinate();
+
+        for (RegionShape shape : regions.values()) {
+            if (shape.envelope().contains(coordinate) && shape.prepared().covers(point)) {
+                return Optional.of(shape.name());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private RegionShape getShape(String name) {
+        RegionShape shape = regions.get(name);
+        if (shape != null) return shape;
+
+        // 시작 전 요청이나 새로 추가된 지역은 DB에서 읽어 등록
+        synchronized (this) {
+            shape = regions.get(name);
+            if (shape != null) return shape;
+
+            Region region = regionRepository.findById(name).orElseThrow(() -> new RegionNotFoundException(name));
+            shape = RegionShape.of(region);
+
+            Map<String, RegionShape> updated = new LinkedHashMap<>(regions);
+            updated.put(name, shape);
+            regions = Collections.unmodifiableMap(updated);
+
+            return shape;
+        }
+    }
+
+    private record RegionShape(String name, MultiPolygon polygon, PreparedGeometry prepared, Envelope envelope) {
+
+        static RegionShape of(Region region) {
+            MultiPolygon polygon = region.getPolygon();
+            return new RegionShape(region.getName(), polygon,
+                    PreparedGeometryFactory.prepare(polygon), polygon.getEnvelopeInternal());
+        }
+    }
+}
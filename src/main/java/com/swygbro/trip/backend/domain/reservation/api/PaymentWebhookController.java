@@ -0,0 +1,45 @@
+package com.swygbro.trip.backend.domain.reservation.api;
+
+import com.swygbro.trip.backend.domain.reservation.aplication.PaymentWebhookService;
+import com.swygbro.trip.backend.domain.reservation.dto.PaymentWebhookRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/reservation")
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentWebhookController {
+    private final PaymentWebhookService paymentWebhookService;
+
+    @PostMapping("/webhook/portone")
+    @Operation(summary = "결제 웹훅 수신", description = """
+            # 결제 웹훅 수신
+                        
+            - PortOne 이 결제 상태가 바뀔 때 호출하는 웹훅입니다.
+            - 알림은 대기열에 저장한 뒤 바로 응답하고, 별도 작업이 PortOne 에서 결제 정보를 다시 조회해 예약의 결제 상태에 반영합니다.
+            - 브라우저가 `/client/payment` 를 호출하지 못해도 결제 완료, 취소가 예약에 반영됩니다.
+            - 같은 결제의 같은 상태 알림은 한 번만 처리합니다.
+             
+            ## 응답
+                        
+            - 알림 저장 시 `200` 코드를 반환합니다. 이미 받은 알림도 `200` 을 반환합니다.
+            - 입력 양식에 오류가 있을 경우 `400` 에러를 반환합니다.
+             
+            """, tags = "Reservation-Webhook")
+    @ApiResponse(responseCode = "200", description = "웹훅 저장 성공")
+    public ResponseEntity<Void> receiveWebhook(@RequestBody @Valid PaymentWebhookRequest request) {
+        if (!paymentWebhookService.enqueue(request)) {
+            log.info("이미 받은 결제 웹훅. imp_uid: {}, status: {}", request.getImp_uid(), request.getStatus());
+        }
+        return ResponseEntity.ok().build();
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/reservation")
@@ -49,12 +50,18 @@ public class ReservationController {
             |personnel| 가이드 신청 인원 | 1보다 큰 정수값 | N | 1 |
             |message| 추가 메세지 | 문자열 | N | 안녕하세요 |
             |price| 가격 | 0보다 큰 정수값 | N | 10000 |
+
+            `Idempotency-Key` 헤더에 요청마다 고유한 값(최대 64자, 예: UUID)을 담아 보내면 응답을 받지 못해 같은 키로 재시도해도 예약이 한 번만 저장되고
+            처음 요청의 주문 번호를 그대로 반환합니다. 키는 24시간 동안 유지됩니다.
              
             ## 응답
                         
             - 예약 정보 저장 성공 시 `200` 코드와 함께 주문 번호를 문자열로 반환합니다.
             - 가이드 ID 혹은 상품 ID 에 오류가 있을 경우 `409` 에러를 반환합니다.
+            - 해당 날짜의 예약 가능 인원을 넘으면 `409` 에러를 반환합니다.
+            - 가이드 기간 밖이거나 지난 날짜이면 `400` 에러를 반환합니다.
             - 입력 양식에 오류가 있을 경우 400 에러를 반환합니다.
+            - 같은 키로 처리 중인 요청이 있으면 `409`, 같은 키로 다른 내용을 요청하면 `422` 에러를 반환합니다.
              
             """, tags = "Reservation-Client")
     @ApiResponse(
@@ -65,19 +72,25 @@ public class ReservationController {
                     schema = @Schema(implementation = String.class)))
     @ApiResponse(
             responseCode = "409",
-            description = "외래 키 참조 에러",
+            description = "외래 키 참조 에러 또는 예약 가능 인원 초과",
             content = @Content(
                     mediaType = "application/json",
                     schema = @Schema(implementation = ApiErrorResponse.class),
-                    examples = @ExampleObject(
-                            name = "존재하지 않는 가이드 ID",
-                            value = "{ \"status\" : \"CONFLICT\", \"message\" : \"존재하지 않는 외래키입니다. : 테이블\"}")
+                    examples = {
+                            @ExampleObject(
+                                    name = "존재하지 않는 가이드 ID",
+                                    value = "{ \"status\" : \"CONFLICT\", \"message\" : \"존재하지 않는 외래키입니다. : 테이블\"}"),
+                            @ExampleObject(
+                                    name = "예약 가능 인원 초과",
+                                    value = "{ \"status\" : \"CONFLICT\", \"message\" : \"예약 가능 인원을 초과했습니다. : (1)\"}")
+                    }
             )
     )
     public ResponseEntity<MerchantDto> saveReservation(@CurrentUser User user,
+                                                       @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                                        @RequestBody @Valid SaveReservationRequest orderDto) {
         log.info("Received orders: {}", orderDto.toString());
-        return ResponseEntity.ok(reservationService.saveReservation(user.getId(), orderDto));
+        return ResponseEntity.ok(reservationService.saveReservation(user.getId(), idempotencyKey, orderDto));
     }
 
     @PostMapping("/client/payment/validation")
@@ -92,6 +105,7 @@ public class ReservationController {
                         
             - 결제 내역 조회 시 `200` 코드와 함께 결제 내역을 반환합니다. IamPortResponse<Payment> 형태로 반환됩니다.
             - imp_uid 에 오류가 있을 경우 `404` 에러를 반환합니다.
+            - 결제 서버가 응답하지 않거나 장애 중이면 `503` 에러를 반환합니다.
              
             """, tags = "Reservation-Client")
     @ApiResponse(
@@ -110,7 +124,7 @@ public class ReservationController {
                             name = "주문 번호가 유효하지 않음",
                             value = "{ \"status\" : \"NOT_FOUND\", \"message\" : \"주문번호를 찾을 수 없습니다. : 주문번호\"}")
             ))
-    public IamportResponse<Payment> validateIamport(@RequestBody PayValidateRequest payValidateRequest) throws IamportResponseException, IOException {
+    public CompletableFuture<IamportResponse<Payment>> validateIamport(@RequestBody PayValidateRequest payValidateRequest) {
         return reservationService.validateIamport(payValidateRequest.getImp_uid());
     }
 
@@ -215,6 +229,9 @@ public class ReservationController {
             | statusFilter | 예약 Status 조건 | 0(확정 대기), 1(확정 및 정산 완료), 2(취소) | 1 |
             | offset | 조회 offset | -  | 0 |
             | pageSize | 조회 페이지 크기 | -  | 10 |
+            | lastMerchantUid | 이전 페이지 마지막 예약의 주문 번호 | 있으면 offset 무시  | 20240523-be091be1 |
+                        
+            - 미래 예약은 종료 일시가 가까운 순, 그 외는 시작 일시가 최근인 순으로 정렬됩니다.
                         
             ## 응답
                         
@@ -245,6 +262,9 @@ public class ReservationController {
             | statusFilter | 예약 Status 조건 | 0(확정 대기), 1(확정 및 정산 완료), 2(취소) | 1 |
             | offset | 조회 offset | -  | 0 |
             | pageSize | 조회 페이지 크기 | -  | 10 |
+            | lastMerchantUid | 이전 페이지 마지막 예약의 주문 번호 | 있으면 offset 무시  | 20240523-be091be1 |
+                                    
+            - 미래 예약은 종료 일시가 가까운 순, 그 외는 시작 일시가 최근인 순으로 정렬됩니다.
                                     
             ## 응답
                         
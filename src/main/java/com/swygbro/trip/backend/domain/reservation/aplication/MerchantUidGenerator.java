@@ -0,0 +1,82 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 번호(merchant_uid) 생성기
+ * <p>
+ * 날짜 접두사 뒤에 Snowflake 방식의 id(밀리초 41비트 + 노드 10비트 + 순번 12비트)를 36진수로 붙입니다.
+ * 노드마다 단조 증가하고, 인스턴스마다 다른 노드 id 를 설정하면 DB 조회 없이 전체에서 유일합니다.
+ * 같은 밀리초에 순번을 다 쓰거나 시계가 뒤로 가면 다음 밀리초를 미리 사용하므로 중복되지 않습니다.
+ */
+@Component
+public class MerchantUidGenerator {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter PREFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-");
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH = 1704067200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private final long nodeId;
+    private final Clock clock;
+
+    // (EPOCH 로부터 밀리초 << SEQUENCE_BITS) | 순번
+    private final AtomicLong state = new AtomicLong();
+    private volatile DayPrefix dayPrefix = new DayPrefix(0, 0, "");
+
+    @Autowired
+    public MerchantUidGenerator(@Value("${reservation.merchant-uid.node-id:0}") long nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    MerchantUidGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("reservation.merchant-uid.node-id 는 0 이상 %d 이하여야 합니다: %d".formatted(MAX_NODE_ID, nodeId));
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public String next() {
+        long now = clock.millis() - EPOCH;
+        long next;
+        while (true) {
+            long prev = state.get();
+            // 순번이 넘치면 밀리초 자리로 올라가 다음 밀리초를 사용
+            next = now > (prev >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : prev + 1;
+            if (state.compareAndSet(prev, next)) break;
+        }
+
+        long millis = next >>> SEQUENCE_BITS;
+        long id = (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & ((1L << SEQUENCE_BITS) - 1));
+        return prefix(millis + EPOCH) + Long.toString(id, 36);
+    }
+
+    // 날짜가 바뀔 때만 접두사를 새로 만듦
+    private String prefix(long epochMillis) {
+        DayPrefix current = dayPrefix;
+        if (epochMillis >= current.start() && epochMillis < current.end()) return current.prefix();
+
+        LocalDate day = Instant.ofEpochMilli(epochMillis).atZone(ZONE).toLocalDate();
+        long start = day.atStartOfDay(ZONE).toInstant().toEpochMilli();
+        long end = day.plusDays(1).atStartOfDay(ZONE).toInstant().toEpochMilli();
+        DayPrefix updated = new DayPrefix(start, end, PREFIX_FORMAT.format(day));
+        dayPrefix = updated;
+        return updated.prefix();
+    }
+
+    private record DayPrefix(long start, long end, String prefix) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import com.swygbro.trip.backend.domain.reservation.domain.*;
+import com.swygbro.trip.backend.domain.reservation.dto.PaymentWebhookRequest;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationCancelledEvent;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationChangedEvent;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationPaidEvent;
+import com.swygbro.trip.backend.domain.reservation.infra.PaymentGateway;
+import com.swygbro.trip.backend.global.outbox.application.OutboxEventStore;
+import com.swygbro.trip.backend.global.status.PayStatus;
+import com.swygbro.trip.backend.global.status.ReservationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 대행사 웹훅 처리
+ * <p>
+ * 웹훅은 payment_webhook 테이블에 쌓아 두고 바로 응답합니다. 주기적으로 대기 중인 알림을 묶어서 읽고,
+ * 대행사에서 결제 정보를 다시 조회해 예약의 결제 상태에 반영합니다. 알림 내용은 믿지 않고 조회 결과만 사용합니다.
+ * 가져온 알림은 lease 시간만큼 다음 시도 시각을 미뤄 두고 바로 커밋하므로, 여러 인스턴스가 함께 처리해도 같은 알림을 나눠 갖지 않고
+ * 대행사 조회를 기다리는 동안 잠금을 잡지 않습니다. 반영은 알림마다 짧은 트랜잭션으로 나눠서 실패한 알림의 변경만 롤백하고,
+ * 대행사 조회나 반영에 실패하면 백오프 후 다시 시도합니다.
+ */
+@Slf4j
+@Service
+public class PaymentWebhookService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final PaymentWebhookRepository webhookRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationInventory reservationInventory;
+    private final PaymentGateway paymentGateway;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventStore outboxEventStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration lease;
+
+    // 기동 이후 누적 처리 건수
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong ignored = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+
+    public PaymentWebhookService(PaymentWebhookRepository webhookRepository,
+                                 ReservationRepository reservationRepository,
+                                 ReservationInventory reservationInventory,
+                                 PaymentGateway paymentGateway,
+                                 ApplicationEventPublisher eventPublisher,
+                                 OutboxEventStore outboxEventStore,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${payment.webhook.batch-size:100}") int batchSize,
+                                 @Value("${payment.webhook.max-attempts:10}") int maxAttempts,
+                                 @Value("${payment.webhook.backoff-ms:5000}") long backoffMs,
+                                 @Value("${payment.webhook.lease-ms:60000}") long leaseMs) {
+        this.webhookRepository = webhookRepository;
+        this.reservationRepository = reservationRepository;
+        this.reservationInventory = reservationInventory;
+        this.paymentGateway = paymentGateway;
+        this.eventPublisher = eventPublisher;
+        this.outboxEventStore = outboxEventStore;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = Duration.ofMillis(backoffMs);
+        this.lease = Duration.ofMillis(leaseMs);
+    }
+
+    // 같은 결제의 같은 상태 알림이 다시 오면 저장하지 않음
+    @Transactional
+    public boolean enqueue(PaymentWebhookRequest request) {
+        return webhookRepository.insertIfAbsent(request.getImp_uid(), request.getMerchant_uid(),
+                request.getStatus(), ZonedDateTime.now(ZONE)) == 1;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.webhook.poll-ms:1000}")
+    public int processBatch() {
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
+        List<PaymentWebhook> webhooks = transactionTemplate.execute(status -> {
+            List<PaymentWebhook> batch = webhookRepository.findBatch(PaymentWebhookStatus.PENDING, now, PageRequest.of(0, batchSize));
+            batch.forEach(webhook -> webhook.lease(now.plus(lease)));
+            return batch;
+        });
+        if (webhooks == null || webhooks.isEmpty()) return 0;
+
+        long startedAt = System.nanoTime();
+        // 대행사 조회는 트랜잭션 밖에서 한꺼번에 요청하고 모두 끝난 뒤 반영
+        List<CompletableFuture<IamportResponse<Payment>>> payments = webhooks.stream()
+                .map(webhook -> paymentGateway.getPayment(webhook.getImpUid()))
+                .toList();
+
+        for (int i = 0; i < webhooks.size(); i++) {
+            Long webhookId = webhooks.get(i).getId();
+            Payment payment;
+            try {
+                payment = payments.get(i).join().getResponse();
+            } catch (CompletionException e) {
+                retryLater(webhookId, e.getCause() != null ? e.getCause() : e, now);
+                continue;
+            }
+
+            String expiredImpUid;
+            try {
+                expiredImpUid = transactionTemplate.execute(status -> webhookRepository.findById(webhookId)
+                        .filter(webhook -> webhook.getStatus() == PaymentWebhookStatus.PENDING)
+                        .map(webhook -> reconcile(webhook, payment, now))
+                        .orElse(null));
+            } catch (RuntimeException e) {
+                // 반영 중 변경은 롤백되었으므로 재시도 정보만 따로 저장
+                retryLater(webhookId, e, now);
+                continue;
+            }
+            if (expiredImpUid != null) cancelExpiredPayment(webhookId, expiredImpUid, now);
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("결제 웹훅 처리: {}건, {}ms ({}건/초), 누적 반영 {} 무시 {} 실패 {} 재시도 {}, 대기 {}건",
+                webhooks.size(), elapsedMs, webhooks.size() * 1000 / elapsedMs,
+                processed.get(), ignored.get(), failed.get(), retried.get(),
+                webhookRepository.countByStatus(PaymentWebhookStatus.PENDING));
+        return webhooks.size();
+    }
+
+    // 만료된 예약의 결제라서 취소해야 하면 imp_uid 를 반환, 알림은 취소 결과를 기록할 때까지 대기 상태로 둠
+    private String reconcile(PaymentWebhook webhook, Payment payment, ZonedDateTime now) {
+        Reservation reservation = payment == null ? null : reservationRepository.findForUpdateByMerchantUid(payment.getMerchantUid());
+        if (reservation == null) {
+            finish(webhook, PaymentWebhookStatus.IGNORED, "unknown merchant_uid", now);
+            return null;
+        }
+
+        switch (payment.getStatus()) {
+            case "paid" -> {
+                if (reservation.getPaymentStatus() == PayStatus.COMPLETE && payment.getImpUid().equals(reservation.getImpUid())) {
+                    finish(webhook, PaymentWebhookStatus.IGNORED, "already paid", now);
+                } else if (reservation.getReservationStatus() == ReservationStatus.CANCELLED && reservation.getPaymentStatus() == PayStatus.PENDING) {
+                    // 결제 대기 시간이 지나 만료된 예약, 결제 정보 저장과 같이 결제를 취소
+                    return payment.getImpUid();
+                } else if (reservation.getReservationStatus() == ReservationStatus.CANCELLED) {
+                    finish(webhook, PaymentWebhookStatus.FAILED, "reservation cancelled", now);
+                } else if (reservation.getPaymentStatus() != PayStatus.PENDING) {
+                    finish(webhook, PaymentWebhookStatus.FAILED, "payment status " + reservation.getPaymentStatus(), now);
+                } else if (payment.getAmount() == null || payment.getAmount().compareTo(BigDecimal.valueOf(reservation.getPrice())) != 0) {
+                    finish(webhook, PaymentWebhookStatus.FAILED, "amount mismatch " + payment.getAmount(), now);
+                } else {
+                    reservation.completePayment(payment.getImpUid(), payment.getPaidAt() == null ? null : payment.getPaidAt().getTime() / 1000);
+                    outboxEventStore.append(ReservationPaidEvent.of(reservation));
+                    finish(webhook, PaymentWebhookStatus.PROCESSED, null, now);
+                }
+            }
+            case "cancelled" -> {
+                if (reservation.getPaymentStatus() == PayStatus.REFUNDED) {
+                    finish(webhook, PaymentWebhookStatus.IGNORED, "already refunded", now);
+                    return null;
+                }
+                // 같은 주문의 다른 결제(중복 결제 등) 취소는 예약에 반영하지 않음
+                if (reservation.getImpUid() != null && !reservation.getImpUid().equals(payment.getImpUid())) {
+                    finish(webhook, PaymentWebhookStatus.IGNORED, "other payment " + payment.getImpUid(), now);
+                    return null;
+                }
+                reservation.refundPayment(payment.getCancelledAt());
+                if (reservation.getReservationStatus() != ReservationStatus.CANCELLED) {
+                    reservationInventory.release(reservation);
+                    reservation.cancelReservation();
+                }
+                eventPublisher.publishEvent(new ReservationChangedEvent(reservation.getProduct().getId()));
+                outboxEventStore.append(ReservationCancelledEvent.of(reservation));
+                finish(webhook, PaymentWebhookStatus.PROCESSED, null, now);
+            }
+            default -> finish(webhook, PaymentWebhookStatus.IGNORED, "status " + payment.getStatus(), now);
+        }
+        return null;
+    }
+
+    // 대행사 취소는 트랜잭션 밖에서 요청, 실패하면 재시도 때 결제를 다시 조회해 아직 결제 상태일 때만 다시 취소
+    private void cancelExpiredPayment(Long webhookId, String impUid, ZonedDateTime now) {
+        try {
+            paymentGateway.cancelPayment(impUid).join();
+        } catch (CompletionException e) {
+            retryLater(webhookId, e.getCause() != null ? e.getCause() : e, now);
+            return;
+        }
+        log.info("만료된 예약의 결제 취소. imp_uid: {}", impUid);
+        transactionTemplate.executeWithoutResult(status -> webhookRepository.findById(webhookId)
+                .filter(webhook -> webhook.getStatus() == PaymentWebhookStatus.PENDING)
+                .ifPresent(webhook -> finish(webhook, PaymentWebhookStatus.PROCESSED, "reservation expired, payment cancelled", now)));
+    }
+
+    private void finish(PaymentWebhook webhook, PaymentWebhookStatus status, String reason, ZonedDateTime now) {
+        webhook.finish(status, abbreviate(reason), now);
+        switch (status) {
+            case PROCESSED -> processed.incrementAndGet();
+            case IGNORED -> ignored.incrementAndGet();
+            default -> {
+                failed.incrementAndGet();
+                log.warn("결제 웹훅 반영 실패. imp_uid: {}, 사유: {}", webhook.getImpUid(), reason);
+            }
+        }
+    }
+
+    private void retryLater(Long webhookId, Throwable cause, ZonedDateTime now) {
+        transactionTemplate.executeWithoutResult(status -> webhookRepository.findById(webhookId)
+                .filter(webhook -> webhook.getStatus() == PaymentWebhookStatus.PENDING)
+                .ifPresent(webhook -> retryLater(webhook, cause, now)));
+    }
+
+    private void retryLater(PaymentWebhook webhook, Throwable cause, ZonedDateTime now) {
+        String error = abbreviate(cause.getMessage());
+        // 존재하지 않는 결제 등 요청 문제는 다시 시도해도 같은 결과
+        boolean clientError = cause instanceof IamportResponseException e && e.getHttpStatusCode() < 500;
+        if (clientError || webhook.getAttempts() + 1 >= maxAttempts) {
+            finish(webhook, PaymentWebhookStatus.FAILED, error, now);
+            return;
+        }
+        // 5초, 10초, 20초 ... 최대 1시간
+        long delayMs = Math.min(backoff.toMillis() << Math.min(webhook.getAttempts(), 20), Duration.ofHours(1).toMillis());
+        webhook.retryAt(error, now.plus(Duration.ofMillis(delayMs)));
+        retried.incrementAndGet();
+    }
+
+    private static String abbreviate(String message) {
+        return message == null || message.length() <= 255 ? message : message.substring(0, 255);
+    }
+}
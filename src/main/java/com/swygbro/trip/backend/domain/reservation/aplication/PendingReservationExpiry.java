@@ -0,0 +1,148 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.swygbro.trip.backend.domain.reservation.domain.Reservation;
+import com.swygbro.trip.backend.domain.reservation.domain.ReservationRepository;
+import com.swygbro.trip.backend.domain.reservation.dto.PendingReservationDto;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationCancelledEvent;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationChangedEvent;
+import com.swygbro.trip.backend.global.outbox.application.OutboxEventStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제하지 않은 예약 만료
+ * <p>
+ * 예약이 저장되면 만료 시각을 DelayQueue 에 넣고, 전용 스레드가 시각이 된 예약을 묶어서 취소하고 예약 인원을 반환합니다.
+ * 대기열에는 id 와 만료 시각만 두므로 수만 건도 부담이 없습니다. 재시작하면 DB 의 결제 대기 예약으로 대기열을 다시 채우고,
+ * 취소는 아직 결제 대기 중인 예약만 대상으로 하므로 여러 인스턴스가 같은 예약을 만료시켜도 한 번만 반영됩니다.
+ */
+@Slf4j
+@Component
+public class PendingReservationExpiry {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final long RETRY_DELAY_MS = 60_000;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationInventory reservationInventory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventStore outboxEventStore;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlMs;
+
+    private final DelayQueue<Hold> holds = new DelayQueue<>();
+    private volatile Thread worker;
+
+    public PendingReservationExpiry(ReservationRepository reservationRepository,
+                                    ReservationInventory reservationInventory,
+                                    ApplicationEventPublisher eventPublisher,
+                                    OutboxEventStore outboxEventStore,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${reservation.pending.ttl-ms:1800000}") long ttlMs) {
+        this.reservationRepository = reservationRepository;
+        this.reservationInventory = reservationInventory;
+        this.eventPublisher = eventPublisher;
+        this.outboxEventStore = outboxEventStore;
+        this.transactionTemplate = transactionTemplate;
+        this.ttlMs = ttlMs;
+    }
+
+    // 결제 대기 예약의 만료 일정 등록
+    public void schedule(Long reservationId, ZonedDateTime createdAt) {
+        holds.add(new Hold(reservationId, createdAt.toInstant().toEpochMilli() + ttlMs));
+    }
+
+    public int size() {
+        return holds.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long lastId = 0;
+        int loaded = 0;
+        while (true) {
+            List<PendingReservationDto> page = reservationRepository.findPendingReservations(lastId, LOAD_PAGE_SIZE);
+            page.forEach(pending -> schedule(pending.getId(), pending.getCreatedAt()));
+            loaded += page.size();
+            if (page.size() < LOAD_PAGE_SIZE) break;
+            lastId = page.get(page.size() - 1).getId();
+        }
+        log.info("결제 대기 예약 만료 일정 복구: {}건", loaded);
+
+        Thread thread = new Thread(this::work, "pending-reservation-expiry");
+        thread.setDaemon(true);
+        thread.start();
+        worker = thread;
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        if (thread != null) thread.interrupt();
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> due = new ArrayList<>();
+            try {
+                due.add(holds.take().reservationId());
+                // 함께 만료된 예약은 한 번에 처리
+                List<Hold> more = new ArrayList<>();
+                holds.drainTo(more, BATCH_SIZE - 1);
+                more.forEach(hold -> due.add(hold.reservationId()));
+
+                expire(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("결제 대기 예약 만료 실패, {}건 잠시 후 재시도: {}", due.size(), e.getMessage());
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+                due.forEach(id -> holds.add(new Hold(id, retryAt)));
+            }
+        }
+    }
+
+    int expire(List<Long> reservationIds) {
+        List<Reservation> expired = transactionTemplate.execute(status -> {
+            List<Reservation> reservations = reservationRepository.findPendingForUpdate(reservationIds);
+            reservations.forEach(reservation -> {
+                reservationInventory.release(reservation);
+                reservation.cancelReservation();
+                outboxEventStore.append(ReservationCancelledEvent.of(reservation));
+            });
+            return reservations;
+        });
+        if (expired == null || expired.isEmpty()) return 0;
+
+        expired.forEach(reservation -> eventPublisher.publishEvent(new ReservationChangedEvent(reservation.getProduct().getId())));
+        log.info("결제 대기 예약 만료: {}건", expired.size());
+        return expired.size();
+    }
+
+    private record Hold(Long reservationId, long expiresAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAt, ((Hold) other).expiresAt);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.swygbro.trip.backend.domain.reservation.domain.ReservationIdempotency;
+import com.swygbro.trip.backend.domain.reservation.domain.ReservationIdempotencyRepository;
+import com.swygbro.trip.backend.domain.reservation.dto.MerchantDto;
+import com.swygbro.trip.backend.domain.reservation.dto.SaveReservationRequest;
+import com.swygbro.trip.backend.domain.reservation.exception.IdempotencyKeyReusedException;
+import com.swygbro.trip.backend.domain.reservation.exception.InvalidIdempotencyKeyException;
+import com.swygbro.trip.backend.domain.reservation.exception.ReservationInProgressException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 예약 생성 요청의 Idempotency-Key 저장소
+ * <p>
+ * 키는 (사용자, 키) 유니크 제약으로 한 요청만 선점합니다. 같은 키로 다시 온 요청은 새 예약을 만들지 않고
+ * 처음 요청의 주문 번호를 반환하며, 처음 요청이 처리 중이면 그 트랜잭션이 끝날 때까지 행 잠금에서 기다립니다.
+ */
+@Slf4j
+@Component
+public class ReservationIdempotencyStore {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final ReservationIdempotencyRepository idempotencyRepository;
+    private final Duration ttl;
+
+    public ReservationIdempotencyStore(ReservationIdempotencyRepository idempotencyRepository,
+                                       @Value("${reservation.idempotency.ttl-hours:24}") long ttlHours) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 키를 선점합니다. 이미 처리된 키라면 처음 요청의 주문 번호를 반환합니다.
+     *
+     * @return 선점에 성공하면 빈 값, 이미 처리된 요청이면 처음 요청의 주문 번호
+     */
+    @Transactional
+    public Optional<MerchantDto> claim(Long clientId, String idempotencyKey, SaveReservationRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+
+        int requestHash = hash(request);
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
+        if (idempotencyRepository.insertIfAbsent(clientId, idempotencyKey, requestHash, now.plus(ttl)) == 1) {
+            return Optional.empty();
+        }
+
+        ReservationIdempotency existing = idempotencyRepository.findByClientIdAndIdempotencyKey(clientId, idempotencyKey)
+                .orElseThrow(() -> new ReservationInProgressException(idempotencyKey));
+
+        // 정리되기 전의 만료된 키는 새 요청이 다시 사용
+        if (existing.getExpiresAt().isBefore(now)) {
+            existing.renew(requestHash, now.plus(ttl));
+            return Optional.empty();
+        }
+        if (existing.getRequestHash() != requestHash) {
+            throw new IdempotencyKeyReusedException(idempotencyKey);
+        }
+        if (existing.getMerchantUid() == null) {
+            throw new ReservationInProgressException(idempotencyKey);
+        }
+        return Optional.of(MerchantDto.builder().merchantUid(existing.getMerchantUid()).build());
+    }
+
+    // 선점한 키에 저장된 예약의 주문 번호를 기록, 예약 저장과 같은 트랜잭션에서 호출
+    @Transactional
+    public void complete(Long clientId, String idempotencyKey, String merchantUid) {
+        idempotencyRepository.findByClientIdAndIdempotencyKey(clientId, idempotencyKey)
+                .ifPresent(idempotency -> idempotency.complete(merchantUid));
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.idempotency.cleanup-ms:3600000}", initialDelayString = "${reservation.idempotency.cleanup-ms:3600000}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = idempotencyRepository.deleteExpired(ZonedDateTime.now(ZONE));
+        log.info("만료된 예약 Idempotency-Key 정리: {}건", deleted);
+    }
+
+    private static int hash(SaveReservationRequest request) {
+        return Objects.hash(request.getProductId(),
+                request.getGuideStart() == null ? null : request.getGuideStart().toInstant(),
+                request.getGuideEnd() == null ? null : request.getGuideEnd().toInstant(),
+                request.getPersonnel(), request.getMessage(), request.getPrice());
+    }
+}
@@ -0,0 +1,66 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
+import com.swygbro.trip.backend.domain.reservation.domain.Reservation;
+import com.swygbro.trip.backend.domain.reservation.domain.ReservationSlotRepository;
+import com.swygbro.trip.backend.domain.reservation.exception.InvalidReservationDateException;
+import com.swygbro.trip.backend.domain.reservation.exception.ReservationCapacityExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 상품 날짜별 예약 인원 재고
+ * <p>
+ * 예약 인원은 reservation_slot 행에 대한 조건부 UPDATE 로 차감하므로 남은 인원을 넘는 예약은 DB 에서 거절됩니다.
+ * 같은 상품, 같은 날짜의 예약만 해당 행 잠금을 기다리고 다른 상품이나 날짜의 예약은 서로 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class ReservationInventory {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final int capacity;
+
+    public ReservationInventory(ReservationSlotRepository reservationSlotRepository,
+                                @Value("${reservation.slot.capacity:10}") int capacity) {
+        this.reservationSlotRepository = reservationSlotRepository;
+        this.capacity = capacity;
+    }
+
+    // 호출한 트랜잭션이 롤백되면 차감도 함께 롤백
+    @Transactional
+    public void reserve(GuideProduct product, ZonedDateTime guideStart, int personnel) {
+        LocalDate day = toDay(guideStart);
+        if (day.isBefore(LocalDate.now(ZONE))
+                || day.isBefore(toDay(product.getGuideStart()))
+                || day.isAfter(toDay(product.getGuideEnd()))) {
+            throw new InvalidReservationDateException();
+        }
+
+        reservationSlotRepository.createIfAbsent(product.getId(), day, capacity);
+        if (reservationSlotRepository.reserve(product.getId(), day, personnel) == 0) {
+            throw new ReservationCapacityExceededException(product.getId());
+        }
+    }
+
+    @Transactional
+    public void release(Reservation reservation) {
+        LocalDate day = toDay(reservation.getGuideStart());
+        if (reservationSlotRepository.release(reservation.getProduct().getId(), day, reservation.getPersonnel()) == 0) {
+            // 재고 도입 이전 예약은 차감한 기록이 없음
+            log.info("반환할 예약 인원이 없습니다. merchantUid: {}", reservation.getMerchantUid());
+        }
+    }
+
+    private static LocalDate toDay(ZonedDateTime dateTime) {
+        return dateTime.withZoneSameInstant(ZONE).toLocalDate();
+    }
+}
@@ -1,30 +1,41 @@
 package com.swygbro.trip.backend.domain.reservation.aplication;
 
-import com.siot.IamportRestClient.IamportClient;
 import com.siot.IamportRestClient.exception.IamportResponseException;
-import com.siot.IamportRestClient.request.CancelData;
 import com.siot.IamportRestClient.response.IamportResponse;
 import com.siot.IamportRestClient.response.Payment;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
 import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
 import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
 import com.swygbro.trip.backend.domain.guideProduct.exception.GuideProductNotFoundException;
 import com.swygbro.trip.backend.domain.reservation.domain.Reservation;
 import com.swygbro.trip.backend.domain.reservation.domain.ReservationRepository;
 import com.swygbro.trip.backend.domain.reservation.dto.*;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationCancelledEvent;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationChangedEvent;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationPaidEvent;
 import com.swygbro.trip.backend.domain.reservation.exception.*;
+import com.swygbro.trip.backend.domain.reservation.infra.PaymentGateway;
+import com.swygbro.trip.backend.global.exception.BaseException;
+import com.swygbro.trip.backend.global.outbox.application.OutboxEventStore;
 import com.swygbro.trip.backend.global.status.PayStatus;
 import com.swygbro.trip.backend.global.status.ReservationStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @Slf4j
@@ -32,9 +43,15 @@ import java.util.List;
 @Transactional
 public class ReservationService {
 
-    private final IamportClient iamportClient;
+    private final PaymentGateway paymentGateway;
     private final ReservationRepository reservationRepository;
     private final GuideProductRepository guideProductRepository;
+    private final ReservationInventory reservationInventory;
+    private final ReservationIdempotencyStore idempotencyStore;
+    private final MerchantUidGenerator merchantUidGenerator;
+    private final PendingReservationExpiry pendingReservationExpiry;
+    private final OutboxEventStore outboxEventStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 예약 정보 저장
@@ -44,39 +61,67 @@ public class ReservationService {
      * @return
      */
     public MerchantDto saveReservation(Long clientId, SaveReservationRequest reservation) {
+        return saveReservation(clientId, null, reservation);
+    }
+
+    /**
+     * 예약 정보 저장, 같은 Idempotency-Key 로 다시 요청하면 처음 요청의 주문 번호를 반환
+     *
+     * @param clientId
+     * @param idempotencyKey 없으면 매 요청마다 새 예약을 저장
+     * @param reservation
+     * @return
+     */
+    public MerchantDto saveReservation(Long clientId, String idempotencyKey, SaveReservationRequest reservation) {
+        if (idempotencyKey != null) {
+            Optional<MerchantDto> replayed = idempotencyStore.claim(clientId, idempotencyKey, reservation);
+            if (replayed.isPresent()) return replayed.get();
+        }
+
         try {
             GuideProduct guideProduct = guideProductRepository.findById(reservation.getProductId()).orElseThrow(
                     () -> new GuideProductNotFoundException(reservation.getProductId())
             );
-            Reservation entity = reservation.toEntity(clientId, guideProduct.getUser().getId());
-            entity.generateMerchantUid();
+            reservationInventory.reserve(guideProduct, reservation.getGuideStart(), reservation.getPersonnel());
 
-            if (reservationRepository.findByMerchantUid(entity.getMerchantUid()) != null) {
-                throw new DuplicateMerchantUidException(entity.getMerchantUid());
-            }
+            Reservation entity = reservation.toEntity(clientId, guideProduct.getUser().getId());
+            entity.assignMerchantUid(merchantUidGenerator.next());
 
             Reservation save = reservationRepository.save(entity);
+            pendingReservationExpiry.schedule(save.getId(), save.getCreatedAt());
+            if (idempotencyKey != null) {
+                idempotencyStore.complete(clientId, idempotencyKey, save.getMerchantUid());
+            }
+            eventPublisher.publishEvent(new ReservationChangedEvent(guideProduct.getId()));
 
             return MerchantDto.builder().
                     merchantUid(save.getMerchantUid()).build();
         } catch (DataIntegrityViolationException e) {
             log.info(e.getMessage());
             throw new ForeignKeyConstraintViolationException("GuideProduct or User");
+        } catch (BaseException e) {
+            throw e;
         } catch (Exception e) {
             log.info(e.getMessage());
+            // 차감한 예약 인원이 커밋되지 않도록 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return null;
         }
     }
 
     /**
      * 아임포트 서버로부터 결제 정보를 검증
+     * 대행사 응답을 기다리는 동안 요청 스레드와 DB 커넥션을 잡지 않음
      *
      * @param imp_uid
      */
-    public IamportResponse<Payment> validateIamport(String imp_uid) throws IamportResponseException, IOException {
-        IamportResponse<Payment> payment = iamportClient.paymentByImpUid(imp_uid);
-        log.info("결제 요청 응답. 결제 내역 - 주문 번호: {}", payment.getResponse());
-        return payment;
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<IamportResponse<Payment>> validateIamport(String imp_uid) {
+        return paymentGateway.getPayment(imp_uid)
+                .thenApply(payment -> {
+                    log.info("결제 요청 응답. 결제 내역 - 주문 번호: {}", payment.getResponse());
+                    return payment;
+                });
     }
 
     /**
@@ -86,8 +131,7 @@ public class ReservationService {
      * @return
      */
     public IamportResponse<Payment> cancelPayment(String imp_uid) throws IamportResponseException, IOException {
-        CancelData cancelData = new CancelData(imp_uid, true);
-        return iamportClient.cancelPaymentByImpUid(cancelData);
+        return await(paymentGateway.cancelPayment(imp_uid));
     }
 
     /**
@@ -97,12 +141,23 @@ public class ReservationService {
      * @return
      */
     public ReservationDto savePayment(SavePaymentRequest request) throws IamportResponseException, IOException {
-        Reservation reservation = reservationRepository.findByMerchantUid(request.getMerchantUid());
+        Reservation reservation = reservationRepository.findForUpdateByMerchantUid(request.getMerchantUid());
 
         if (reservation == null) {
             throw new ReservationNotFoundException(request.getMerchantUid());
         }
 
+        // 결제 대기 시간이 지나 취소된 예약은 인원을 다시 확보할 수 없으므로 결제를 취소
+        if (reservation.getReservationStatus() == ReservationStatus.CANCELLED && reservation.getPaymentStatus() == PayStatus.PENDING) {
+            cancelPayment(request.getImpUid());
+            throw new ReservationExpiredException(request.getMerchantUid());
+        }
+
+        // 웹훅으로 먼저 반영된 결제
+        if (request.getImpUid().equals(reservation.getImpUid()) && reservation.getPaymentStatus() == PayStatus.COMPLETE) {
+            return new ReservationDto().fromEntity(reservation);
+        }
+
         if (reservationRepository.findByImpUid(request.getImpUid()) != null) {
             throw new DuplicateImpUidException(request.getImpUid());
         }
@@ -110,6 +165,7 @@ public class ReservationService {
         reservation.UpdatePaymentReservation(request);
 
         reservationRepository.save(reservation);
+        outboxEventStore.append(ReservationPaidEvent.of(reservation));
         return new ReservationDto().fromEntity(reservation);
     }
 
@@ -126,31 +182,35 @@ public class ReservationService {
             throw new ReservationNotFoundException(merchant_uid);
         }
 
-        if ((reservation.getGuideStart().equals(ReservationStatus.CANCELLED)) && (reservation.getPaymentStatus().equals(PayStatus.REFUNDED))) {
+        if ((reservation.getReservationStatus().equals(ReservationStatus.CANCELLED)) && (reservation.getPaymentStatus().equals(PayStatus.REFUNDED))) {
             throw new DuplicateCancelReservationException(merchant_uid);
         }
 
+        // 결제 취소를 먼저 요청하고, 성공한 뒤에 인원을 반환해서 대행사 응답을 기다리는 동안 예약 인원 행을 잠그지 않음
+        // 결제하지 않은 예약은 취소할 결제가 없음
+        if (reservation.getImpUid() != null && reservation.getPaymentStatus() == PayStatus.COMPLETE) {
+            IamportResponse<Payment> paymentIamportResponse = cancelPayment(reservation.getImpUid());
+            reservation.refundPayment(paymentIamportResponse.getResponse().getCancelledAt());
+        }
+
+        // 이미 취소된 예약의 인원은 반환하지 않음
+        if (reservation.getReservationStatus() != ReservationStatus.CANCELLED) {
+            reservationInventory.release(reservation);
+        }
         reservation.cancelReservation();
-        IamportResponse<Payment> paymentIamportResponse = cancelPayment(reservation.getImpUid());
-        reservation.refundPayment(paymentIamportResponse.getResponse().getCancelledAt());
 
         reservationRepository.save(reservation);
+        outboxEventStore.append(ReservationCancelledEvent.of(reservation));
+        eventPublisher.publishEvent(new ReservationChangedEvent(reservation.getProduct().getId()));
         return new ReservationDto().fromEntity(reservation);
     }
 
     /**
      * Client ID 를 통한 예약 조회
      */
+    @Transactional(readOnly = true)
     public List<ReservationDto> getReservationListByClient(Long clientId, ReservationSearchCriteria criteria) {
-        List<Reservation> reservations = reservationRepository.findReservationsByClientId(clientId, criteria);
-        List<ReservationDto> reservationDtos = new ArrayList<>();
-
-        reservations.forEach(reservation -> {
-            ReservationDto reservationDto = new ReservationDto().fromEntity(reservation);
-            reservationDtos.add(reservationDto);
-        });
-
-        return reservationDtos;
+        return toReservationDtos(reservationRepository.findReservationsByClientId(clientId, criteria));
     }
 
 
@@ -165,16 +225,21 @@ public class ReservationService {
     /**
      * Guide ID 를 통한 예약 조회
      */
+    @Transactional(readOnly = true)
     public List<ReservationDto> getReservationListByGuide(Long guideId, ReservationSearchCriteria criteria) {
-        List<Reservation> reservations = reservationRepository.findReservationsByGuideId(guideId, criteria);
-        List<ReservationDto> reservationDtos = new ArrayList<>();
+        return toReservationDtos(reservationRepository.findReservationsByGuideId(guideId, criteria));
+    }
 
-        reservations.forEach(reservation -> {
-            ReservationDto reservationDto = new ReservationDto().fromEntity(reservation);
-            reservationDtos.add(reservationDto);
-        });
+    // 가이드, 상품은 목록 조회에서 함께 읽고 상품 카테고리는 한 번에 모아서 조회
+    private List<ReservationDto> toReservationDtos(List<Reservation> reservations) {
+        if (reservations.isEmpty()) return List.of();
 
-        return reservationDtos;
+        List<Long> productIds = reservations.stream().map(reservation -> reservation.getProduct().getId()).distinct().toList();
+        Map<Long, List<GuideCategoryCode>> categories = guideProductRepository.findCategoryCodes(productIds);
+
+        return reservations.stream()
+                .map(reservation -> ReservationDto.of(reservation, categories.getOrDefault(reservation.getProduct().getId(), List.of())))
+                .toList();
     }
 
 
@@ -201,4 +266,17 @@ public class ReservationService {
         return reservations.map(ReservationInfoDto::fromEntity);
     }
 
+    // 대행사 호출 결과를 기다리고 원래 예외로 되돌림, 기다리는 시간은 게이트웨이의 시간 제한까지
+    private static <T> T await(CompletableFuture<T> future) throws IamportResponseException, IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IamportResponseException iamportException) throw iamportException;
+            if (cause instanceof IOException ioException) throw ioException;
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            throw e;
+        }
+    }
+
 }
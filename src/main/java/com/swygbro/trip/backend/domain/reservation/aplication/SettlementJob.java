@@ -0,0 +1,102 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.swygbro.trip.backend.domain.reservation.domain.GuideSettlementRepository;
+import com.swygbro.trip.backend.domain.reservation.domain.ReservationRepository;
+import com.swygbro.trip.backend.domain.reservation.dto.SettlementRowDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 가이드가 끝난 예약 정산
+ * <p>
+ * 가이드 종료 일시가 지난 결제 완료 예약을 id 순으로 일정 개수씩 잘라 읽고, 묶음마다 한 트랜잭션에서
+ * 예약을 SETTLED 로 일괄 변경하고 가이드별 정산 합계를 누적합니다. 정산된 예약은 다시 조회되지 않으므로
+ * 중간에 멈추거나 여러 인스턴스에서 동시에 실행해도 처음부터 다시 돌리면 이어서 처리됩니다.
+ */
+@Slf4j
+@Component
+public class SettlementJob {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ReservationRepository reservationRepository;
+    private final GuideSettlementRepository guideSettlementRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public SettlementJob(ReservationRepository reservationRepository,
+                         GuideSettlementRepository guideSettlementRepository,
+                         TransactionTemplate transactionTemplate,
+                         @Value("${reservation.settlement.chunk-size:500}") int chunkSize) {
+        this.reservationRepository = reservationRepository;
+        this.guideSettlementRepository = guideSettlementRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${reservation.settlement.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void runScheduled() {
+        run(ZonedDateTime.now(ZONE));
+    }
+
+    /**
+     * cutoff 이전에 끝난 예약을 정산합니다.
+     *
+     * @return 정산한 예약 수
+     */
+    public long run(ZonedDateTime cutoff) {
+        long startedAt = System.nanoTime();
+        // 가장 오래 기다린 예약이 끝난 뒤 지난 시간
+        Duration lag = reservationRepository.findOldestUnsettledEnd(cutoff)
+                .map(oldest -> Duration.between(oldest, cutoff))
+                .orElse(Duration.ZERO);
+        LocalDate settlementDate = cutoff.withZoneSameInstant(ZONE).toLocalDate();
+
+        long lastId = 0;
+        long settled = 0;
+        int chunks = 0;
+        while (true) {
+            long afterId = lastId;
+            ChunkResult result = transactionTemplate.execute(status -> processChunk(afterId, cutoff, settlementDate));
+            if (result == null || result.scanned() == 0) break;
+
+            lastId = result.lastId();
+            settled += result.settled();
+            chunks++;
+            if (result.scanned() < chunkSize) break;
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("예약 정산 완료: {}건, 묶음 {}개, {}ms ({}건/초), 정산 지연 {}시간",
+                settled, chunks, elapsedMs, settled * 1000 / elapsedMs, lag.toHours());
+        return settled;
+    }
+
+    private ChunkResult processChunk(long afterId, ZonedDateTime cutoff, LocalDate settlementDate) {
+        List<SettlementRowDto> rows = reservationRepository.findSettlementChunk(afterId, cutoff, chunkSize);
+        if (rows.isEmpty()) return new ChunkResult(0, afterId, 0);
+
+        long settled = reservationRepository.settle(rows.stream().map(SettlementRowDto::getId).toList());
+
+        // 잠근 행만 변경하므로 조회한 행이 모두 정산됨
+        Map<Long, List<SettlementRowDto>> byGuide = rows.stream().collect(Collectors.groupingBy(SettlementRowDto::getGuideId));
+        byGuide.forEach((guideId, guideRows) -> guideSettlementRepository.accumulate(guideId, settlementDate,
+                guideRows.size(), guideRows.stream().mapToLong(SettlementRowDto::getPrice).sum()));
+
+        return new ChunkResult(rows.size(), rows.get(rows.size() - 1).getId(), settled);
+    }
+
+    private record ChunkResult(int scanned, long lastId, long settled) {
+    }
+}
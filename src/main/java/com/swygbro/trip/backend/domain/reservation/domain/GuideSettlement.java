@@ -0,0 +1,33 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 가이드별 정산일 합계, 정산 작업이 예약 상태 변경과 같은 트랜잭션에서 누적
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "guide_settlement", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_guide_settlement_guide_date", columnNames = {"guide_id", "settlement_date"})
+})
+@Getter
+public class GuideSettlement {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "guide_id", nullable = false)
+    private Long guideId;
+
+    @Column(name = "settlement_date", nullable = false)
+    private LocalDate settlementDate;
+
+    @Column(name = "reservation_count", nullable = false)
+    private long reservationCount;
+
+    @Column(name = "total_amount", nullable = false)
+    private long totalAmount;
+}
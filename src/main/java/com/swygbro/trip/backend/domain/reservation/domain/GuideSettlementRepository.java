@@ -0,0 +1,21 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface GuideSettlementRepository extends JpaRepository<GuideSettlement, Long> {
+
+    List<GuideSettlement> findByGuideIdOrderBySettlementDateDesc(Long guideId);
+
+    @Modifying
+    @Query(value = "insert into guide_settlement (guide_id, settlement_date, reservation_count, total_amount) " +
+            "values (:guideId, :settlementDate, :count, :amount) " +
+            "on duplicate key update reservation_count = reservation_count + :count, total_amount = total_amount + :amount", nativeQuery = true)
+    int accumulate(@Param("guideId") Long guideId, @Param("settlementDate") LocalDate settlementDate,
+                   @Param("count") long count, @Param("amount") long amount);
+}
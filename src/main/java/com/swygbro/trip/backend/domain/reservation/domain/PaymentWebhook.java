@@ -0,0 +1,69 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+// 결제 대행사 웹훅 수신 대기열, 같은 결제의 같은 상태 알림은 한 번만 저장
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "payment_webhook", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payment_webhook_imp_uid_pg_status", columnNames = {"imp_uid", "pg_status"})
+}, indexes = {
+        @Index(name = "idx_payment_webhook_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+public class PaymentWebhook {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "imp_uid", length = 64, nullable = false)
+    private String impUid;
+
+    @Column(name = "merchant_uid")
+    private String merchantUid;
+
+    // 대행사가 보낸 결제 상태 (paid, cancelled 등)
+    @Column(name = "pg_status", length = 20, nullable = false)
+    private String pgStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PaymentWebhookStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    @Column(name = "received_at", nullable = false)
+    private ZonedDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private ZonedDateTime processedAt;
+
+    public void finish(PaymentWebhookStatus status, String reason, ZonedDateTime now) {
+        this.status = status;
+        this.lastError = reason;
+        this.processedAt = now;
+    }
+
+    // 처리하는 동안 다른 인스턴스가 가져가지 않도록 leaseUntil 까지 미룸, 처리 중 종료되면 그 이후 다시 처리
+    public void lease(ZonedDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void retryAt(String error, ZonedDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface PaymentWebhookRepository extends JpaRepository<PaymentWebhook, Long> {
+
+    // 이미 받은 알림이면 0 반환
+    @Modifying
+    @Query(value = "insert ignore into payment_webhook (imp_uid, merchant_uid, pg_status, status, attempts, next_attempt_at, received_at) " +
+            "values (:impUid, :merchantUid, :pgStatus, 'PENDING', 0, :now, :now)", nativeQuery = true)
+    int insertIfAbsent(@Param("impUid") String impUid, @Param("merchantUid") String merchantUid,
+                       @Param("pgStatus") String pgStatus, @Param("now") ZonedDateTime now);
+
+    // 다른 인스턴스가 처리 중인 행은 건너뜀
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select w from PaymentWebhook w where w.status = :status and w.nextAttemptAt <= :now order by w.id")
+    List<PaymentWebhook> findBatch(@Param("status") PaymentWebhookStatus status, @Param("now") ZonedDateTime now, Pageable pageable);
+
+    long countByStatus(PaymentWebhookStatus status);
+}
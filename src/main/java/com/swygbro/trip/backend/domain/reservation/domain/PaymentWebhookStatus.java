@@ -0,0 +1,8 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+public enum PaymentWebhookStatus {
+    PENDING,    // 처리 대기
+    PROCESSED,  // 예약에 반영
+    IGNORED,    // 반영할 내용 없음 (이미 반영, 알 수 없는 주문 등)
+    FAILED      // 재시도 횟수 초과 또는 결제 정보 불일치
+}
@@ -11,13 +11,17 @@ import com.swygbro.trip.backend.global.status.ReservationStatusConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.text.SimpleDateFormat;
 import java.time.ZonedDateTime;
 import java.util.Date;
-import java.util.UUID;
 
 
 @Entity
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_client_start", columnList = "client_id, guide_start, reservation_status"),
+        @Index(name = "idx_reservation_client_end", columnList = "client_id, guide_end, reservation_status"),
+        @Index(name = "idx_reservation_guide_start", columnList = "guide_id, guide_start, reservation_status"),
+        @Index(name = "idx_reservation_guide_end", columnList = "guide_id, guide_end, reservation_status")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @AllArgsConstructor
@@ -80,6 +84,14 @@ public class Reservation extends BaseEntity {
         this.reservationStatus = ReservationStatus.RESERVED;
     }
 
+    // 결제 대행사 웹훅으로 확인한 결제 완료
+    public void completePayment(String impUid, Long paidAt) {
+        this.impUid = impUid;
+        this.paidAt = paidAt;
+        this.paymentStatus = PayStatus.COMPLETE;
+        this.reservationStatus = ReservationStatus.RESERVED;
+    }
+
     public void setClientId(Long clientId) {
         this.client = User.builder().id(clientId).build();
     }
@@ -101,14 +113,8 @@ public class Reservation extends BaseEntity {
         this.cancelledAt = cancelledAt.getTime();
     }
 
-    public void generateMerchantUid() {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd-");
-        String prefix = dateFormat.format(new Date());
-
-        UUID uuid = UUID.randomUUID();
-        String suffix = uuid.toString().substring(0, 8);
-
-        this.merchantUid = prefix + suffix;
+    public void assignMerchantUid(String merchantUid) {
+        this.merchantUid = merchantUid;
     }
 
 
@@ -1,12 +1,30 @@
 package com.swygbro.trip.backend.domain.reservation.domain;
 
+import com.swygbro.trip.backend.domain.reservation.dto.PendingReservationDto;
 import com.swygbro.trip.backend.domain.reservation.dto.ReservationSearchCriteria;
+import com.swygbro.trip.backend.domain.reservation.dto.SettlementRowDto;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ReservationCustomRepository {
 
     List<Reservation> findReservationsByClientId(Long clientId, ReservationSearchCriteria criteria);
 
     List<Reservation> findReservationsByGuideId(Long clientId, ReservationSearchCriteria criteria);
+
+    // afterId 이후 cutoff 전에 끝난 결제 완료 예약을 id 순으로 잠가서 조회
+    List<SettlementRowDto> findSettlementChunk(Long afterId, ZonedDateTime cutoff, int size);
+
+    long settle(List<Long> reservationIds);
+
+    // 정산되지 않은 예약 중 가장 먼저 끝난 가이드 종료 일시
+    Optional<ZonedDateTime> findOldestUnsettledEnd(ZonedDateTime cutoff);
+
+    // 결제 대기 중인 예약을 id 순으로 조회
+    List<PendingReservationDto> findPendingReservations(Long afterId, int size);
+
+    // ids 중 아직 결제 대기 중인 예약을 잠가서 조회
+    List<Reservation> findPendingForUpdate(List<Long> ids);
 }
@@ -1,58 +1,161 @@
 package com.swygbro.trip.backend.domain.reservation.domain;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swygbro.trip.backend.domain.reservation.dto.PendingReservationDto;
+import com.swygbro.trip.backend.domain.reservation.dto.QPendingReservationDto;
+import com.swygbro.trip.backend.domain.reservation.dto.QSettlementRowDto;
 import com.swygbro.trip.backend.domain.reservation.dto.ReservationSearchCriteria;
+import com.swygbro.trip.backend.domain.reservation.dto.SettlementRowDto;
+import com.swygbro.trip.backend.domain.user.domain.QUser;
+import com.swygbro.trip.backend.global.status.PayStatus;
 import com.swygbro.trip.backend.global.status.ReservationStatus;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import static com.swygbro.trip.backend.domain.guideProduct.domain.QGuideProduct.guideProduct;
 import static com.swygbro.trip.backend.domain.reservation.domain.QReservation.reservation;
 
 @Repository
 @RequiredArgsConstructor
 public class ReservationCustomRepositoryImpl implements ReservationCustomRepository {
+    // 목록 응답에 필요한 가이드, 상품, 상품 호스트를 한 번에 조회
+    private final QUser qGuide = new QUser("guide");
+    private final QUser qHost = new QUser("host");
+
     private final JPAQueryFactory queryFactory;
 
     @Override
     public List<Reservation> findReservationsByClientId(Long clientId, ReservationSearchCriteria criteria) {
+        return findReservations(reservation.client.id.eq(clientId), criteria);
+    }
+
+
+    @Override
+    public List<Reservation> findReservationsByGuideId(Long guideId, ReservationSearchCriteria criteria) {
+        return findReservations(reservation.guide.id.eq(guideId), criteria);
+    }
+
+    /**
+     * 사용자별 예약 목록
+     * <p>
+     * 다가오는 예약은 종료 일시가 가까운 순, 그 외는 시작 일시가 최근인 순으로 정렬하고 같은 일시는 id 로 정렬합니다.
+     * lastMerchantUid 가 있으면 offset 대신 해당 예약 다음부터 조회해서 (사용자, 일시, 상태) 인덱스 범위만 읽습니다.
+     */
+    private List<Reservation> findReservations(BooleanExpression owner, ReservationSearchCriteria criteria) {
         BooleanBuilder builder = new BooleanBuilder();
 
         timeFilter(criteria.getTimeFilter(), builder);
         statusFilter(criteria.getStatusFilter(), builder);
 
-        return queryFactory
+        boolean upcoming = criteria.getTimeFilter() == 1;
+        DateTimePath<ZonedDateTime> sortKey = upcoming ? reservation.guideEnd : reservation.guideStart;
+
+        String lastMerchantUid = criteria.getLastMerchantUid();
+        if (lastMerchantUid != null) {
+            Tuple last = queryFactory
+                    .select(sortKey, reservation.id)
+                    .from(reservation)
+                    .where(reservation.merchantUid.eq(lastMerchantUid), owner)
+                    .fetchOne();
+            if (last == null) return List.of();
+            builder.and(after(sortKey, last.get(sortKey), last.get(reservation.id), upcoming));
+        }
+
+        JPAQuery<Reservation> query = queryFactory
                 .selectFrom(reservation)
-                .where(reservation.client.id.eq(clientId)
-                        .and(builder))
-                .offset(criteria.getOffset())
-                .limit(criteria.getPageSize())
+                .join(reservation.guide, qGuide).fetchJoin()
+                .join(reservation.product, guideProduct).fetchJoin()
+                .join(guideProduct.user, qHost).fetchJoin()
+                .where(owner.and(builder))
+                .orderBy(upcoming ? sortKey.asc() : sortKey.desc(),
+                        upcoming ? reservation.id.asc() : reservation.id.desc())
+                .limit(criteria.getPageSize());
+        if (lastMerchantUid == null) query.offset(criteria.getOffset());
+
+        return query.fetch();
+    }
+
+    // 정렬 순서에서 (lastTime, lastId) 다음에 오는 예약
+    private static BooleanExpression after(DateTimePath<ZonedDateTime> sortKey, ZonedDateTime lastTime, Long lastId, boolean upcoming) {
+        if (upcoming) {
+            return sortKey.gt(lastTime).or(sortKey.eq(lastTime).and(reservation.id.gt(lastId)));
+        }
+        return sortKey.lt(lastTime).or(sortKey.eq(lastTime).and(reservation.id.lt(lastId)));
+    }
+
+    @Override
+    public List<SettlementRowDto> findSettlementChunk(Long afterId, ZonedDateTime cutoff, int size) {
+        return queryFactory
+                .select(new QSettlementRowDto(reservation.id, reservation.guide.id, reservation.price))
+                .from(reservation)
+                .where(reservation.id.gt(afterId), settlable(cutoff))
+                .orderBy(reservation.id.asc())
+                .limit(size)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .fetch();
     }
 
+    @Override
+    public long settle(List<Long> reservationIds) {
+        return queryFactory.update(reservation)
+                .set(reservation.reservationStatus, ReservationStatus.SETTLED)
+                .where(reservation.id.in(reservationIds),
+                        reservation.reservationStatus.eq(ReservationStatus.RESERVED))
+                .execute();
+    }
 
     @Override
-    public List<Reservation> findReservationsByGuideId(Long guideId, ReservationSearchCriteria criteria) {
-        BooleanBuilder builder = new BooleanBuilder();
+    public Optional<ZonedDateTime> findOldestUnsettledEnd(ZonedDateTime cutoff) {
+        return Optional.ofNullable(queryFactory
+                .select(reservation.guideEnd.min())
+                .from(reservation)
+                .where(settlable(cutoff))
+                .fetchOne());
+    }
 
-        timeFilter(criteria.getTimeFilter(), builder);
-        statusFilter(criteria.getStatusFilter(), builder);
+    @Override
+    public List<PendingReservationDto> findPendingReservations(Long afterId, int size) {
+        return queryFactory
+                .select(new QPendingReservationDto(reservation.id, reservation.createdAt))
+                .from(reservation)
+                .where(reservation.id.gt(afterId), pending())
+                .orderBy(reservation.id.asc())
+                .limit(size)
+                .fetch();
+    }
 
+    @Override
+    public List<Reservation> findPendingForUpdate(List<Long> ids) {
         return queryFactory
                 .selectFrom(reservation)
-                .where(reservation.guide.id.eq(guideId)
-                        .and(builder))
-                .offset(criteria.getOffset())
-                .limit(criteria.getPageSize())
+                .where(reservation.id.in(ids), pending())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .fetch();
     }
 
+    private static BooleanExpression pending() {
+        return reservation.reservationStatus.eq(ReservationStatus.PENDING_CONFIRMATION)
+                .and(reservation.paymentStatus.eq(PayStatus.PENDING));
+    }
+
+    private static BooleanExpression settlable(ZonedDateTime cutoff) {
+        return reservation.reservationStatus.eq(ReservationStatus.RESERVED)
+                .and(reservation.paymentStatus.eq(PayStatus.COMPLETE))
+                .and(reservation.guideEnd.before(cutoff));
+    }
+
     private static void statusFilter(int statusFilter, BooleanBuilder builder) {
         switch (statusFilter) {
             case 1: // 확정 대기 중인 예약
@@ -0,0 +1,50 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+// 예약 생성 요청의 Idempotency-Key, 만료 시각이 지나면 정리
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reservation_idempotency", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_idempotency_client_key", columnNames = {"client_id", "idempotency_key"})
+}, indexes = {
+        @Index(name = "idx_reservation_idempotency_expires_at", columnList = "expires_at")
+})
+@Getter
+public class ReservationIdempotency {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "idempotency_key", length = 64, nullable = false)
+    private String idempotencyKey;
+
+    // 같은 키로 다른 내용의 요청이 오는지 확인
+    @Column(name = "request_hash", nullable = false)
+    private int requestHash;
+
+    // 예약이 저장되기 전에는 null
+    @Column(name = "merchant_uid")
+    private String merchantUid;
+
+    @Column(name = "expires_at", nullable = false)
+    private ZonedDateTime expiresAt;
+
+    public void complete(String merchantUid) {
+        this.merchantUid = merchantUid;
+    }
+
+    public void renew(int requestHash, ZonedDateTime expiresAt) {
+        this.requestHash = requestHash;
+        this.merchantUid = null;
+        this.expiresAt = expiresAt;
+    }
+}
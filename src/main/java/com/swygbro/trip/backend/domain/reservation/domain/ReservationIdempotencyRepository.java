@@ -0,0 +1,28 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public interface ReservationIdempotencyRepository extends JpaRepository<ReservationIdempotency, Long> {
+
+    // 같은 키로 동시에 요청이 오면 먼저 넣은 요청만 1을 반환
+    @Modifying
+    @Query(value = "insert ignore into reservation_idempotency (client_id, idempotency_key, request_hash, expires_at) values (:clientId, :idempotencyKey, :requestHash, :expiresAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("clientId") Long clientId, @Param("idempotencyKey") String idempotencyKey,
+                       @Param("requestHash") int requestHash, @Param("expiresAt") ZonedDateTime expiresAt);
+
+    // 처리 중인 요청이 끝날 때까지 기다린 뒤 최신 값을 읽음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ReservationIdempotency> findByClientIdAndIdempotencyKey(Long clientId, String idempotencyKey);
+
+    @Modifying
+    @Query("delete from ReservationIdempotency r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") ZonedDateTime now);
+}
@@ -1,8 +1,10 @@
 package com.swygbro.trip.backend.domain.reservation.domain;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.List;
 
@@ -11,6 +13,10 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
 
     Reservation findByMerchantUid(String merchantUid);
 
+    // 결제 반영과 결제 대기 만료가 엇갈리지 않도록 잠가서 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Reservation findForUpdateByMerchantUid(String merchantUid);
+
     Reservation findByImpUid(String impUid);
 
     Page<Reservation> findAllByGuideId(Long guideId, Pageable pageable);
@@ -0,0 +1,33 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 상품의 하루 예약 가능 인원, 예약 인원은 조건부 UPDATE 로만 변경
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reservation_slot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_slot_product_date", columnNames = {"product_id", "slot_date"})
+})
+@Getter
+public class ReservationSlot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(nullable = false)
+    private int reserved;
+}
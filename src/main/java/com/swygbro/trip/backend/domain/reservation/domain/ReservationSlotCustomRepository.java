@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import java.time.LocalDate;
+
+public interface ReservationSlotCustomRepository {
+    // 남은 인원이 충분할 때만 personnel 만큼 차감, 변경된 행 수 반환
+    long reserve(Long productId, LocalDate slotDate, int personnel);
+
+    long release(Long productId, LocalDate slotDate, int personnel);
+}
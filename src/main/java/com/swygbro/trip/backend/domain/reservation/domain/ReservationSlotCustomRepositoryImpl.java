@@ -0,0 +1,35 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+import static com.swygbro.trip.backend.domain.reservation.domain.QReservationSlot.reservationSlot;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationSlotCustomRepositoryImpl implements ReservationSlotCustomRepository {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public long reserve(Long productId, LocalDate slotDate, int personnel) {
+        return queryFactory.update(reservationSlot)
+                .set(reservationSlot.reserved, reservationSlot.reserved.add(personnel))
+                .where(reservationSlot.productId.eq(productId),
+                        reservationSlot.slotDate.eq(slotDate),
+                        reservationSlot.reserved.add(personnel).loe(reservationSlot.capacity))
+                .execute();
+    }
+
+    @Override
+    public long release(Long productId, LocalDate slotDate, int personnel) {
+        return queryFactory.update(reservationSlot)
+                .set(reservationSlot.reserved, reservationSlot.reserved.subtract(personnel))
+                .where(reservationSlot.productId.eq(productId),
+                        reservationSlot.slotDate.eq(slotDate),
+                        reservationSlot.reserved.goe(personnel))
+                .execute();
+    }
+}
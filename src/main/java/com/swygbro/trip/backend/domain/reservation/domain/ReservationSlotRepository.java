@@ -0,0 +1,18 @@
+package com.swygbro.trip.backend.domain.reservation.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long>, ReservationSlotCustomRepository {
+    Optional<ReservationSlot> findByProductIdAndSlotDate(Long productId, LocalDate slotDate);
+
+    // 동시에 여러 요청이 만들어도 한 행만 남음
+    @Modifying
+    @Query(value = "insert ignore into reservation_slot (product_id, slot_date, capacity, reserved) values (:productId, :slotDate, :capacity, 0)", nativeQuery = true)
+    int createIfAbsent(@Param("productId") Long productId, @Param("slotDate") LocalDate slotDate, @Param("capacity") int capacity);
+}
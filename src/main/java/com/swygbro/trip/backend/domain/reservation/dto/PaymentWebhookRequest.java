@@ -0,0 +1,19 @@
+package com.swygbro.trip.backend.domain.reservation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class PaymentWebhookRequest {
+    @NotBlank
+    @Schema(description = "결제 고유 번호", example = "imp_1234567890")
+    private String imp_uid;
+
+    @Schema(description = "주문 번호", example = "20240501-2k1x9c0a8b3d")
+    private String merchant_uid;
+
+    @NotBlank
+    @Schema(description = "결제 상태 (ready, paid, failed, cancelled)", example = "paid")
+    private String status;
+}
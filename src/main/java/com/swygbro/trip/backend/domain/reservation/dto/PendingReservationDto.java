@@ -0,0 +1,19 @@
+package com.swygbro.trip.backend.domain.reservation.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+// 결제 대기 중인 예약, 만료 일정 복구용
+@Getter
+public class PendingReservationDto {
+    private final Long id;
+    private final ZonedDateTime createdAt;
+
+    @QueryProjection
+    public PendingReservationDto(Long id, ZonedDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+}
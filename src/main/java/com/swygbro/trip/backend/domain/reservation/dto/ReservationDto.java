@@ -1,5 +1,6 @@
 package com.swygbro.trip.backend.domain.reservation.dto;
 
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
 import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSimpleDto;
 import com.swygbro.trip.backend.domain.reservation.domain.Reservation;
 import com.swygbro.trip.backend.domain.user.dto.SimpleUserDto;
@@ -12,6 +13,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -50,9 +52,18 @@ public class ReservationDto {
 
 
     public ReservationDto fromEntity(Reservation reservation) {
+        return of(reservation, GuideProductSimpleDto.fromEntity(reservation.getProduct()));
+    }
+
+    // 상품 카테고리를 목록 단위로 모아서 조회한 경우
+    public static ReservationDto of(Reservation reservation, List<GuideCategoryCode> categories) {
+        return of(reservation, GuideProductSimpleDto.fromEntity(reservation.getProduct(), categories));
+    }
+
+    private static ReservationDto of(Reservation reservation, GuideProductSimpleDto product) {
         return ReservationDto.builder()
                 .guide(SimpleUserDto.fromEntity(reservation.getGuide()))
-                .product(GuideProductSimpleDto.fromEntity(reservation.getProduct()))
+                .product(product)
                 .guideStart(reservation.getGuideStart())
                 .guideEnd(reservation.getGuideEnd())
                 .personnel(reservation.getPersonnel())
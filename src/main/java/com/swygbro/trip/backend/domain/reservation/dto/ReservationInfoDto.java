@@ -53,7 +53,7 @@ public class ReservationInfoDto {
         reservationInfoDto.setId(reservation.getId());
         reservationInfoDto.setGuide(UserInfoDto.fromEntity(reservation.getGuide()));
         reservationInfoDto.setClient(UserInfoDto.fromEntity(reservation.getClient()));
-        reservationInfoDto.setProduct(GuideProductDto.fromEntity(reservation.getProduct()));
+        reservationInfoDto.setProduct(GuideProductDto.fromEntityWithoutReviews(reservation.getProduct()));
         reservationInfoDto.setGuideStart(reservation.getGuideStart());
         reservationInfoDto.setGuideEnd(reservation.getGuideEnd());
         reservationInfoDto.setPersonnel(reservation.getPersonnel());
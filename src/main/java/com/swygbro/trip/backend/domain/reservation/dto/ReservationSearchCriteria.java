@@ -18,4 +18,7 @@ public class ReservationSearchCriteria {
 
     @Schema(description = "페이지 크기", example = "5")
     private int pageSize = 5;
+
+    @Schema(description = "이전 페이지 마지막 예약의 주문 번호, 있으면 offset 대신 이 예약 다음부터 조회", example = "20240523-be091be1")
+    private String lastMerchantUid;
 }
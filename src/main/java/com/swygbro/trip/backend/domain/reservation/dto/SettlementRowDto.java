@@ -0,0 +1,19 @@
+package com.swygbro.trip.backend.domain.reservation.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+// 정산 대상 예약
+@Getter
+public class SettlementRowDto {
+    private final Long id;
+    private final Long guideId;
+    private final Integer price;
+
+    @QueryProjection
+    public SettlementRowDto(Long id, Long guideId, Integer price) {
+        this.id = id;
+        this.guideId = guideId;
+        this.price = price;
+    }
+}
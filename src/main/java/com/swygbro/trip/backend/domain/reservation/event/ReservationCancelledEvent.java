@@ -0,0 +1,21 @@
+package com.swygbro.trip.backend.domain.reservation.event;
+
+import com.swygbro.trip.backend.domain.reservation.domain.Reservation;
+import com.swygbro.trip.backend.global.status.PayStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 예약 취소, 결제 대기 만료, 환불 시 아웃박스로 발행
+@Getter
+@AllArgsConstructor
+public class ReservationCancelledEvent {
+    private final Long reservationId;
+    private final Long productId;
+    private final String merchantUid;
+    private final PayStatus paymentStatus;
+
+    public static ReservationCancelledEvent of(Reservation reservation) {
+        return new ReservationCancelledEvent(reservation.getId(), reservation.getProduct().getId(),
+                reservation.getMerchantUid(), reservation.getPaymentStatus());
+    }
+}
@@ -0,0 +1,11 @@
+package com.swygbro.trip.backend.domain.reservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 예약 생성, 취소 시 발행
+@Getter
+@AllArgsConstructor
+public class ReservationChangedEvent {
+    private final Long productId;
+}
@@ -0,0 +1,20 @@
+package com.swygbro.trip.backend.domain.reservation.event;
+
+import com.swygbro.trip.backend.domain.reservation.domain.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 예약 결제 완료 시 아웃박스로 발행
+@Getter
+@AllArgsConstructor
+public class ReservationPaidEvent {
+    private final Long reservationId;
+    private final Long productId;
+    private final String merchantUid;
+    private final Integer price;
+
+    public static ReservationPaidEvent of(Reservation reservation) {
+        return new ReservationPaidEvent(reservation.getId(), reservation.getProduct().getId(),
+                reservation.getMerchantUid(), reservation.getPrice());
+    }
+}
@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.reservation.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyReusedException extends BaseException {
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super(HttpStatus.UNPROCESSABLE_ENTITY, "다른 예약 요청에 이미 사용된 Idempotency-Key 입니다. : (%s)".formatted(idempotencyKey));
+    }
+}
@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.reservation.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidIdempotencyKeyException extends BaseException {
+    public InvalidIdempotencyKeyException() {
+        super(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 1자 이상 64자 이하여야 합니다.");
+    }
+}
@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.reservation.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidReservationDateException extends BaseException {
+    public InvalidReservationDateException() {
+        super(HttpStatus.BAD_REQUEST, "예약할 수 없는 날짜입니다. 가이드 기간 내 오늘 이후 날짜만 예약할 수 있습니다.");
+    }
+}
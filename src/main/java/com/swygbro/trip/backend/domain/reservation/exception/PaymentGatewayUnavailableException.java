@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.reservation.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class PaymentGatewayUnavailableException extends BaseException {
+    public PaymentGatewayUnavailableException(String reason) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "결제 서버에 연결할 수 없습니다. 잠시 후 다시 시도해주세요. : (%s)".formatted(reason));
+    }
+}
@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.reservation.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class ReservationCapacityExceededException extends BaseException {
+    public ReservationCapacityExceededException(Long productId) {
+        super(HttpStatus.CONFLICT, "예약 가능 인원을 초과했습니다. : (%d)".formatted(productId));
+    }
+}
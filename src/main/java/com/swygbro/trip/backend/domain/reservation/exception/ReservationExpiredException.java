@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.reservation.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class ReservationExpiredException extends BaseException {
+    public ReservationExpiredException(String merchantUid) {
+        super(HttpStatus.CONFLICT, "결제 대기 시간이 지나 취소된 예약입니다. 결제는 취소됩니다. : (%s)".formatted(merchantUid));
+    }
+}
@@ -0,0 +1,10 @@
+package com.swygbro.trip.backend.domain.reservation.exception;
+
+import com.swygbro.trip.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class ReservationInProgressException extends BaseException {
+    public ReservationInProgressException(String idempotencyKey) {
+        super(HttpStatus.CONFLICT, "같은 Idempotency-Key 로 처리 중인 예약 요청이 있습니다. : (%s)".formatted(idempotencyKey));
+    }
+}
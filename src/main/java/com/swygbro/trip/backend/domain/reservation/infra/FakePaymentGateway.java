@@ -0,0 +1,86 @@
+package com.swygbro.trip.backend.domain.reservation.infra;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네트워크 없이 동작하는 결제 대행사, 부하 테스트와 로컬 실행용
+ * <p>
+ * payment.gateway.type=fake 일 때 사용합니다. 모든 imp_uid 를 결제 완료로 응답하고 취소하면 취소 상태로 바꿉니다.
+ * 지연 시간을 주면 실제 대행사처럼 응답이 늦게 옵니다.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.gateway.type", havingValue = "fake")
+public class FakePaymentGateway implements PaymentGateway {
+
+    private static final Type RESPONSE_TYPE = new TypeToken<IamportResponse<Payment>>() {
+    }.getType();
+    // 대행사 응답과 같이 일시는 초 단위 timestamp
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(Date.class, (JsonDeserializer<Date>) (json, type, context) -> new Date(json.getAsLong() * 1000))
+            .create();
+
+    private final Executor delayed;
+    private final Map<String, FakePayment> payments = new ConcurrentHashMap<>();
+
+    public FakePaymentGateway(@Value("${payment.gateway.fake.latency-ms:50}") long latencyMs) {
+        this.delayed = CompletableFuture.delayedExecutor(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 결제 정보를 미리 등록, 등록하지 않은 imp_uid 는 주문 번호와 금액 없이 결제 완료로 응답
+    public void approve(String impUid, String merchantUid, long amount) {
+        payments.put(impUid, new FakePayment(merchantUid, amount, "paid"));
+    }
+
+    @Override
+    public CompletableFuture<IamportResponse<Payment>> getPayment(String impUid) {
+        return CompletableFuture.supplyAsync(() -> response(impUid, payments.getOrDefault(impUid, new FakePayment(null, 0, "paid"))), delayed);
+    }
+
+    @Override
+    public CompletableFuture<IamportResponse<Payment>> cancelPayment(String impUid) {
+        return CompletableFuture.supplyAsync(() -> response(impUid, payments.compute(impUid, (key, payment) -> payment == null
+                ? new FakePayment(null, 0, "cancelled")
+                : new FakePayment(payment.merchantUid(), payment.amount(), "cancelled"))), delayed);
+    }
+
+    private static IamportResponse<Payment> response(String impUid, FakePayment payment) {
+        long now = System.currentTimeMillis() / 1000;
+
+        JsonObject body = new JsonObject();
+        body.addProperty("imp_uid", impUid);
+        body.addProperty("merchant_uid", payment.merchantUid());
+        body.addProperty("amount", BigDecimal.valueOf(payment.amount()));
+        body.addProperty("status", payment.status());
+        body.addProperty("paid_at", now);
+        if ("cancelled".equals(payment.status())) {
+            body.addProperty("cancel_amount", BigDecimal.valueOf(payment.amount()));
+            body.addProperty("cancelled_at", now);
+        }
+
+        JsonObject response = new JsonObject();
+        response.addProperty("code", 0);
+        response.add("response", body);
+        return GSON.fromJson(response, RESPONSE_TYPE);
+    }
+
+    private record FakePayment(String merchantUid, long amount, String status) {
+    }
+}
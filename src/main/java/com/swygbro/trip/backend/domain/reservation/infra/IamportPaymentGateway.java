@@ -0,0 +1,147 @@
+package com.swygbro.trip.backend.domain.reservation.infra;
+
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.siot.IamportRestClient.request.CancelData;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import com.swygbro.trip.backend.domain.reservation.exception.PaymentGatewayUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * IamportClient 를 감싼 결제 대행사 호출
+ * <p>
+ * 동기 클라이언트는 정해진 크기의 전용 스레드 풀에서만 실행하고, 풀과 대기열이 차면 바로 실패합니다.
+ * 호출마다 시간 제한을 두고, 대행사 장애(5xx, 네트워크 오류, 시간 초과)가 이어지면 서킷을 열어 일정 시간 호출하지 않습니다.
+ * 조회는 지수 백오프로 재시도하고, 취소는 중복 취소를 막기 위해 재시도하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.gateway.type", havingValue = "iamport", matchIfMissing = true)
+public class IamportPaymentGateway implements PaymentGateway {
+
+    private final IamportClient iamportClient;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService retryScheduler;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+
+    public IamportPaymentGateway(IamportClient iamportClient,
+                                 @Value("${payment.gateway.timeout-ms:5000}") long timeoutMs,
+                                 @Value("${payment.gateway.pool-size:16}") int poolSize,
+                                 @Value("${payment.gateway.queue-size:64}") int queueSize,
+                                 @Value("${payment.gateway.max-attempts:3}") int maxAttempts,
+                                 @Value("${payment.gateway.backoff-ms:200}") long backoffMs,
+                                 @Value("${payment.gateway.open-ms:30000}") long openMs) {
+        this.iamportClient = iamportClient;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory("payment-gateway-"), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory("payment-gateway-retry-"));
+
+        this.circuitBreaker = CircuitBreaker.of("iamport", CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMillis(openMs))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordException(IamportPaymentGateway::isGatewayFailure)
+                .build());
+        this.retry = Retry.of("iamport", RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialBackoff(Duration.ofMillis(backoffMs), 2.0))
+                .retryOnException(IamportPaymentGateway::isGatewayFailure)
+                .build());
+        this.circuitBreaker.getEventPublisher().onStateTransition(event -> log.warn("결제 대행사 서킷 상태 변경: {}", event.getStateTransition()));
+    }
+
+    @Override
+    public CompletableFuture<IamportResponse<Payment>> getPayment(String impUid) {
+        return call(() -> iamportClient.paymentByImpUid(impUid), true);
+    }
+
+    @Override
+    public CompletableFuture<IamportResponse<Payment>> cancelPayment(String impUid) {
+        return call(() -> iamportClient.cancelPaymentByImpUid(new CancelData(impUid, true)), false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        retryScheduler.shutdown();
+    }
+
+    private <T> CompletableFuture<T> call(IamportCall<T> call, boolean retryable) {
+        Supplier<CompletionStage<T>> attempt = () -> CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.execute();
+            } catch (IamportResponseException | IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        Supplier<CompletionStage<T>> guarded = CircuitBreaker.decorateCompletionStage(circuitBreaker, attempt);
+        CompletionStage<T> stage = retryable
+                ? Retry.decorateCompletionStage(retry, retryScheduler, guarded).get()
+                : guarded.get();
+
+        return stage.toCompletableFuture().handle((result, throwable) -> {
+            if (throwable == null) return result;
+            throw new CompletionException(translate(unwrap(throwable)));
+        });
+    }
+
+    private static Throwable translate(Throwable cause) {
+        if (cause instanceof CallNotPermittedException) return new PaymentGatewayUnavailableException("circuit open");
+        if (cause instanceof RejectedExecutionException) return new PaymentGatewayUnavailableException("too many requests");
+        if (cause instanceof TimeoutException) return new PaymentGatewayUnavailableException("timeout");
+        return cause;
+    }
+
+    // 대행사 쪽 장애만 서킷과 재시도 대상, 4xx 응답은 요청 문제이므로 제외
+    private static boolean isGatewayFailure(Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        if (cause instanceof IamportResponseException e) return e.getHttpStatusCode() >= 500;
+        return cause instanceof IOException || cause instanceof TimeoutException;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface IamportCall<T> {
+        T execute() throws IamportResponseException, IOException;
+    }
+}
@@ -0,0 +1,20 @@
+package com.swygbro.trip.backend.domain.reservation.infra;
+
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 결제 대행사(PortOne) 호출
+ * <p>
+ * 요청 스레드를 막지 않도록 결과를 CompletableFuture 로 반환합니다. 대행사 오류는 IamportResponseException,
+ * 시간 초과나 호출 제한은 PaymentGatewayUnavailableException 으로 실패합니다.
+ */
+public interface PaymentGateway {
+
+    CompletableFuture<IamportResponse<Payment>> getPayment(String impUid);
+
+    // 전액 취소
+    CompletableFuture<IamportResponse<Payment>> cancelPayment(String impUid);
+}
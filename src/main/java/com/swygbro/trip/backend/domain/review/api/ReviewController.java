@@ -3,6 +3,7 @@ package com.swygbro.trip.backend.domain.review.api;
 
 import com.swygbro.trip.backend.domain.review.application.ReviewService;
 import com.swygbro.trip.backend.domain.review.dto.CreateReviewRequest;
+import com.swygbro.trip.backend.domain.review.dto.DetailReviewDto;
 import com.swygbro.trip.backend.domain.review.dto.ReviewDetailDto;
 import com.swygbro.trip.backend.domain.review.dto.ReviewInfoDto;
 import com.swygbro.trip.backend.domain.user.domain.User;
@@ -18,6 +19,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -52,6 +54,32 @@ public class ReviewController {
         return reviewService.getReviewById(reviewId);
     }
 
+    @GetMapping("products/{productId}")
+    @Operation(summary = "가이드 상품 리뷰 목록", description = """
+            # 가이드 상품 리뷰 목록
+                        
+            가이드 상품의 리뷰를 최신순으로 페이지 단위 조회합니다.
+                        
+            | 필드명 | 설명 | 제약조건 | null 가능 | 예시 |
+            |--------|------|----------|----------|------|
+            |productId| 가이드 상품 고유 id | 숫자 | N | 1 |
+            |page| 페이지 넘버 | default = 0, 음수는 0 | Y | 1 |
+            |size| 페이지 크기 | default = 10, 1 ~ 50 (범위 밖은 가까운 값) | Y | 10 |
+            """)
+    @ApiResponse(
+            responseCode = "200",
+            description = "`200` 코드와 함께 리뷰 목록이 반환됩니다.",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = DetailReviewDto.class)
+            )
+    )
+    Page<DetailReviewDto> getProductReviews(@PathVariable Long productId,
+                                            @RequestParam(required = false, defaultValue = "0") int page,
+                                            @RequestParam(required = false, defaultValue = "10") int size) {
+        return reviewService.getProductReviews(productId, page, size);
+    }
+
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "리뷰 생성", description = """
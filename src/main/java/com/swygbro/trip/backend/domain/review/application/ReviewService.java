@@ -7,15 +7,21 @@ import com.swygbro.trip.backend.domain.review.domain.Review;
 import com.swygbro.trip.backend.domain.review.domain.ReviewImage;
 import com.swygbro.trip.backend.domain.review.domain.ReviewRepository;
 import com.swygbro.trip.backend.domain.review.dto.CreateReviewRequest;
+import com.swygbro.trip.backend.domain.review.dto.DetailReviewDto;
 import com.swygbro.trip.backend.domain.review.dto.ReviewDetailDto;
 import com.swygbro.trip.backend.domain.review.dto.ReviewInfoDto;
 import com.swygbro.trip.backend.domain.review.dto.UpdateReviewRequest;
+import com.swygbro.trip.backend.domain.review.event.ReviewChangedEvent;
+import com.swygbro.trip.backend.domain.review.event.ReviewCreatedEvent;
 import com.swygbro.trip.backend.domain.review.exception.InvalidReviewRequestException;
 import com.swygbro.trip.backend.domain.review.exception.ReviewNotFoundException;
 import com.swygbro.trip.backend.domain.s3.application.S3Service;
 import com.swygbro.trip.backend.domain.user.domain.User;
+import com.swygbro.trip.backend.global.outbox.application.OutboxEventStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +39,11 @@ public class ReviewService {
     private final ReservationRepository reservationRepository;
     private final GuideProductRepository guideProductRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventStore outboxEventStore;
+
+    // 리뷰 목록 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 50;
 
     @Transactional(readOnly = true)
     public ReviewDetailDto getReviewById(Long id) {
@@ -76,6 +87,8 @@ public class ReviewService {
         }
 
         Review createdReview = reviewRepository.save(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(createdReview.getGuideProduct().getId()));
+        outboxEventStore.append(ReviewCreatedEvent.of(createdReview));
         return ReviewInfoDto.builder()
                 .reviewId(createdReview.getId())
                 .reviewer(createdReview.getReviewer().getNickname())
@@ -94,6 +107,14 @@ public class ReviewService {
         return findReviewPagesByGuideId(pageable, guideProductId);
     }
 
+    // 가이드 상품 리뷰 목록 (최신순), 페이지 크기는 1 ~ MAX_PAGE_SIZE
+    @Transactional(readOnly = true)
+    public Page<DetailReviewDto> getProductReviews(Long guideProductId, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return reviewRepository.findByGuideProductIdOrderByIdDesc(guideProductId, pageable)
+                .map(DetailReviewDto::fromEntity);
+    }
+
     @Transactional
     public void updateReview(Long reviewId, UpdateReviewRequest request, Optional<List<MultipartFile>> imageFiles) {
         Review review = reviewRepository.findById(reviewId)
@@ -114,6 +135,7 @@ public class ReviewService {
         });
 
         review.update(request);
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getGuideProduct().getId()));
     }
 
     @Transactional
@@ -121,6 +143,7 @@ public class ReviewService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(ReviewNotFoundException::new);
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getGuideProduct().getId()));
     }
 
 
@@ -8,6 +8,7 @@ import com.swygbro.trip.backend.domain.user.domain.User;
 import com.swygbro.trip.backend.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,7 +39,9 @@ public class Review extends BaseEntity {
     @Column(nullable = false)
     private Integer rating;
 
-    @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    // 리뷰 목록 조회 시 이미지는 리뷰 id IN 쿼리로 한 번에 조회
+    @BatchSize(size = 100)
+    @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReviewImage> images = new ArrayList<>();
 
     public Review(CreateReviewRequest request, User reviewer, Reservation reservation) {
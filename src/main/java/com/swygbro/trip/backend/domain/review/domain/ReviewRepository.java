@@ -2,8 +2,13 @@ package com.swygbro.trip.backend.domain.review.domain;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     Page<Review> findAllByGuideProductId(Long guideProductId, Pageable pageable);
+
+    // 상품 상세 리뷰 목록, 작성자와 예약은 같은 쿼리로 조회
+    @EntityGraph(attributePaths = {"reviewer", "reservation"})
+    Page<Review> findByGuideProductIdOrderByIdDesc(Long guideProductId, Pageable pageable);
 }
@@ -0,0 +1,11 @@
+package com.swygbro.trip.backend.domain.review.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 리뷰 생성, 수정, 삭제 시 발행
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+    private final Long guideProductId;
+}
@@ -0,0 +1,18 @@
+package com.swygbro.trip.backend.domain.review.event;
+
+import com.swygbro.trip.backend.domain.review.domain.Review;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 리뷰 생성 시 아웃박스로 발행
+@Getter
+@AllArgsConstructor
+public class ReviewCreatedEvent {
+    private final Long reviewId;
+    private final Long guideProductId;
+    private final Integer rating;
+
+    public static ReviewCreatedEvent of(Review review) {
+        return new ReviewCreatedEvent(review.getId(), review.getGuideProduct().getId(), review.getRating());
+    }
+}
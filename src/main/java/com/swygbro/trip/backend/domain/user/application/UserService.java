@@ -4,9 +4,11 @@ import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepositor
 import com.swygbro.trip.backend.domain.s3.application.S3Service;
 import com.swygbro.trip.backend.domain.user.domain.*;
 import com.swygbro.trip.backend.domain.user.dto.*;
+import com.swygbro.trip.backend.domain.user.event.UserChangedEvent;
 import com.swygbro.trip.backend.domain.user.excepiton.PasswordNotMatchException;
 import com.swygbro.trip.backend.domain.user.excepiton.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,6 +28,7 @@ public class UserService {
     private final GuideProductRepository guideProductRepository;
     private final UserValidationService userValidationService;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserInfoDto createUser(CreateUserRequest dto) {
@@ -83,6 +86,7 @@ public class UserService {
         }
 
         user.update(dto);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     }
 
     @Transactional(readOnly = true)
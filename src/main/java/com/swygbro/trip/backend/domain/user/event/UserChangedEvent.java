@@ -0,0 +1,11 @@
+package com.swygbro.trip.backend.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 사용자 정보(사용 언어 등) 수정 시 발행
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final Long userId;
+}
@@ -0,0 +1,39 @@
+package com.swygbro.trip.backend.global.outbox.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swygbro.trip.backend.global.outbox.domain.OutboxEvent;
+import com.swygbro.trip.backend.global.outbox.domain.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 아웃박스 이벤트 저장
+ * <p>
+ * 호출한 서비스의 트랜잭션 안에서 이벤트를 outbox_event 테이블에 저장합니다. 도메인 변경이 커밋되면 이벤트도 함께 남고,
+ * 롤백되면 함께 사라집니다. 저장된 이벤트는 {@link OutboxRelay} 가 요청과 별개로 리스너에 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventStore {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(event.getClass().getName(),
+                    objectMapper.writeValueAsString(event), ZonedDateTime.now(ZONE)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.swygbro.trip.backend.global.outbox.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swygbro.trip.backend.global.outbox.domain.OutboxEvent;
+import com.swygbro.trip.backend.global.outbox.domain.OutboxEventRepository;
+import com.swygbro.trip.backend.global.outbox.domain.OutboxEventStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 이벤트 전달
+ * <p>
+ * 주기적으로 대기 중인 이벤트를 묶어서 가져와 애플리케이션 이벤트로 발행하고, 리스너가 모두 성공하면 전달 완료로 표시합니다.
+ * 가져올 때 lease 시간만큼 다음 시도 시각을 미뤄 두고 커밋하므로, 리스너는 트랜잭션 밖에서 실행되고 여러 인스턴스가
+ * 같은 이벤트를 동시에 가져가지 않습니다. 리스너는 정해진 크기의 전달 스레드 풀에서 동시에 실행하고, lease 가 끝나기 전에
+ * 결과를 기록하도록 시간 제한을 넘긴 이벤트는 실패로 보고 다시 시도합니다. 전달 중 인스턴스가 종료되면 lease 이후 다시 전달되므로 최소 한 번 전달을 보장하고,
+ * 리스너는 같은 이벤트를 여러 번 받아도 되도록 작성해야 합니다. 실패한 이벤트는 백오프 후 다시 시도하며 순서는 보장하지 않습니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoff;
+    private final Duration retention;
+    private final Duration dispatchTimeout;
+    private final ThreadPoolExecutor executor;
+
+    // 기동 이후 누적 처리 건수
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${outbox.batch-size:100}") int batchSize,
+                       @Value("${outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.lease-ms:60000}") long leaseMs,
+                       @Value("${outbox.backoff-ms:5000}") long backoffMs,
+                       @Value("${outbox.retention-days:7}") int retentionDays,
+                       @Value("${outbox.dispatch-timeout-ms:20000}") long dispatchTimeoutMs,
+                       @Value("${outbox.pool-size:8}") int poolSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.backoff = Duration.ofMillis(backoffMs);
+        this.retention = Duration.ofDays(retentionDays);
+        // 시간 제한은 lease 의 절반을 넘지 않아 결과 기록 전에 다른 인스턴스가 다시 가져가지 않음
+        this.dispatchTimeout = Duration.ofMillis(Math.min(dispatchTimeoutMs, leaseMs / 2));
+        // 한 번에 가져오는 이벤트가 모두 대기열에 들어갈 수 있는 크기
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(batchSize, 1)), threadFactory("outbox-dispatch-"), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-ms:1000}")
+    public int relay() {
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.findBatch(OutboxEventStatus.PENDING, now, PageRequest.of(0, batchSize));
+            batch.forEach(event -> event.lease(now.plus(lease)));
+            return batch;
+        });
+        if (events == null || events.isEmpty()) return 0;
+
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> dispatches = events.stream().map(this::dispatch).toList();
+
+        List<Long> done = new ArrayList<>();
+        Map<Long, String> errors = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            try {
+                dispatches.get(i).join();
+                done.add(event.getId());
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = unwrap(e);
+                log.warn("아웃박스 이벤트 전달 실패. id: {}, type: {}, 사유: {}", event.getId(), event.getEventType(), cause.toString());
+                errors.put(event.getId(), abbreviate(cause.getClass().getSimpleName() + ": " + cause.getMessage()));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ZonedDateTime finishedAt = ZonedDateTime.now(ZONE);
+            if (!done.isEmpty()) outboxEventRepository.finish(done, OutboxEventStatus.PUBLISHED, finishedAt);
+            outboxEventRepository.findAllById(errors.keySet()).forEach(event -> retryLater(event, errors.get(event.getId()), finishedAt));
+        });
+        published.addAndGet(done.size());
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("아웃박스 이벤트 전달: {}건, {}ms, 누적 완료 {} 실패 {} 재시도 {}",
+                events.size(), elapsedMs, published.get(), failed.get(), retried.get());
+        return events.size();
+    }
+
+    // 전달이 끝나고 보관 기간이 지난 이벤트 삭제
+    @Scheduled(cron = "${outbox.cleanup-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public int deletePublished() {
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(
+                OutboxEventStatus.PUBLISHED, ZonedDateTime.now(ZONE).minus(retention)));
+        log.info("전달 완료된 아웃박스 이벤트 삭제: {}건, 실패 대기 {}건", deleted, outboxEventRepository.countByStatus(OutboxEventStatus.FAILED));
+        return deleted == null ? 0 : deleted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 리스너를 전달 스레드 풀에서 실행, 풀과 대기열이 차거나 시간 제한을 넘기면 실패
+    private CompletableFuture<Void> dispatch(OutboxEvent event) {
+        try {
+            Object payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getEventType()));
+            return CompletableFuture.runAsync(() -> eventPublisher.publishEvent(payload), executor)
+                    .orTimeout(dispatchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void retryLater(OutboxEvent event, String error, ZonedDateTime now) {
+        if (event.getAttempts() >= maxAttempts) {
+            event.fail(error);
+            failed.incrementAndGet();
+            return;
+        }
+        // 5초, 10초, 20초 ... 최대 1시간
+        long delayMs = Math.min(backoff.toMillis() << Math.min(event.getAttempts() - 1, 20), Duration.ofHours(1).toMillis());
+        event.retryAt(error, now.plus(Duration.ofMillis(delayMs)));
+        retried.incrementAndGet();
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static String abbreviate(String message) {
+        return message == null || message.length() <= 255 ? message : message.substring(0, 255);
+    }
+}
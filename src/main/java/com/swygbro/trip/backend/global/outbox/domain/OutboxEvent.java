@@ -0,0 +1,72 @@
+package com.swygbro.trip.backend.global.outbox.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+// 도메인 변경과 같은 트랜잭션에서 저장하고 커밋 이후 비동기로 전달하는 이벤트
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 클래스 이름
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    // 이벤트 JSON
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OutboxEventStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(name = "published_at")
+    private ZonedDateTime publishedAt;
+
+    public OutboxEvent(String eventType, String payload, ZonedDateTime now) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxEventStatus.PENDING;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    // 처리하는 동안 다른 인스턴스가 가져가지 않도록 leaseUntil 까지 미룸, 처리 중 종료되면 그 이후 다시 전달
+    public void lease(ZonedDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void retryAt(String error, ZonedDateTime nextAttemptAt) {
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void fail(String error) {
+        this.status = OutboxEventStatus.FAILED;
+        this.lastError = error;
+    }
+}
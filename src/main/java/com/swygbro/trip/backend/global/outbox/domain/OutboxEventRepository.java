@@ -0,0 +1,29 @@
+package com.swygbro.trip.backend.global.outbox.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 다른 인스턴스가 가져가는 중인 행은 건너뜀
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.status = :status and e.nextAttemptAt <= :now order by e.id")
+    List<OutboxEvent> findBatch(@Param("status") OutboxEventStatus status, @Param("now") ZonedDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.publishedAt = :now, e.lastError = null where e.id in :ids")
+    int finish(@Param("ids") List<Long> ids, @Param("status") OutboxEventStatus status, @Param("now") ZonedDateTime now);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :status and e.publishedAt < :before")
+    int deletePublishedBefore(@Param("status") OutboxEventStatus status, @Param("before") ZonedDateTime before);
+
+    long countByStatus(OutboxEventStatus status);
+}
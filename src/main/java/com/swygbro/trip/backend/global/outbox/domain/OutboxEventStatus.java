@@ -0,0 +1,7 @@
+package com.swygbro.trip.backend.global.outbox.domain;
+
+public enum OutboxEventStatus {
+    PENDING,    // 전달 대기 또는 재시도 대기
+    PUBLISHED,  // 모든 리스너 처리 완료
+    FAILED      // 재시도 횟수 초과, 수동 확인 필요
+}
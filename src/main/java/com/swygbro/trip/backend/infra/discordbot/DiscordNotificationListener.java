@@ -0,0 +1,46 @@
+package com.swygbro.trip.backend.infra.discordbot;
+
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductModifiedEvent;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationCancelledEvent;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationPaidEvent;
+import com.swygbro.trip.backend.domain.review.event.ReviewCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 활동 디스코드 알림
+ * <p>
+ * 아웃박스 전달 스레드에서 이벤트를 받아 알림을 보냅니다. 요청 처리와 별개로 전달되고, 전송에 실패하거나
+ * 전달 시간 제한을 넘기면 아웃박스에서 다시 시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DiscordNotificationListener {
+
+    private final DiscordMessageProvider discordMessageProvider;
+
+    @EventListener
+    public void onReservationPaid(ReservationPaidEvent event) {
+        discordMessageProvider.sendMessage("예약 결제 완료 - 주문 번호: %s, 상품: %d, 금액: %d"
+                .formatted(event.getMerchantUid(), event.getProductId(), event.getPrice()));
+    }
+
+    @EventListener
+    public void onReservationCancelled(ReservationCancelledEvent event) {
+        discordMessageProvider.sendMessage("예약 취소 - 주문 번호: %s, 상품: %d, 결제 상태: %s"
+                .formatted(event.getMerchantUid(), event.getProductId(), event.getPaymentStatus()));
+    }
+
+    @EventListener
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        discordMessageProvider.sendMessage("리뷰 등록 - 상품: %d, 별점: %s"
+                .formatted(event.getGuideProductId(), event.getRating()));
+    }
+
+    @EventListener
+    public void onGuideProductModified(GuideProductModifiedEvent event) {
+        discordMessageProvider.sendMessage("가이드 상품 수정 - 상품: %d, 제목: %s"
+                .formatted(event.getProductId(), event.getTitle()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.swygbro.trip.backend.domain.guideProduct.fixture;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.DayTime;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSearchCondition;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSearchRowDto;
+import com.swygbro.trip.backend.domain.guideProduct.dto.SearchCategoriesRequest;
+import com.swygbro.trip.backend.domain.user.domain.Language;
+import com.swygbro.trip.backend.domain.user.domain.Nationality;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.given;
+
+// 검색, 패싯 인덱스 테스트가 함께 쓰는 서울 상품 4건 스냅샷
+public class GuideProductSearchFixture {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    public static GuideProductSearchRowDto row(Long id, long price, int guideTime, int startHour, Long hostId) {
+        return new GuideProductSearchRowDto(id, "서울특별시", GEOMETRY_FACTORY.createPoint(new Coordinate(126.9780, 37.5665)),
+                price, guideTime, LocalTime.of(startHour, 0), hostId, Nationality.KOR);
+    }
+
+    public static GuideProductSearchCondition.GuideProductSearchConditionBuilder condition() {
+        return GuideProductSearchCondition.builder()
+                .region("서울특별시")
+                .categories(new SearchCategoriesRequest())
+                .minPrice(0L).maxPrice(200000L)
+                .minDuration(1).maxDuration(24)
+                .dayTimes(List.of(DayTime.ALL));
+    }
+
+    // 가이드 10: 1, 2번 상품(한국어), 가이드 20: 3, 4번 상품(한국어, 영어)
+    public static void givenSearchRows(GuideProductRepository guideProductRepository) {
+        given(guideProductRepository.findSearchRows(null, null)).willReturn(List.of(
+                row(1L, 10000, 2, 9, 10L),
+                row(2L, 30000, 4, 13, 10L),
+                row(3L, 50000, 8, 19, 20L),
+                row(4L, 250000, 3, 20, 20L)
+        ));
+        given(guideProductRepository.findCategoryCodes(null)).willReturn(Map.of(
+                1L, List.of(GuideCategoryCode.DINING),
+                2L, List.of(GuideCategoryCode.DINING, GuideCategoryCode.TOUR),
+                3L, List.of(GuideCategoryCode.TOUR),
+                4L, List.of(GuideCategoryCode.OUTDOOR)
+        ));
+        given(guideProductRepository.findHostLanguages(null)).willReturn(Map.of(
+                10L, List.of(Language.ko),
+                20L, List.of(Language.ko, Language.en)
+        ));
+    }
+}
@@ -0,0 +1,83 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductPeriodDto;
+import com.swygbro.trip.backend.domain.reservation.event.ReservationChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("가이드 상품 예약 가능 날짜 인덱스")
+@ExtendWith(MockitoExtension.class)
+class GuideProductAvailabilityIndexTest {
+
+    @InjectMocks
+    GuideProductAvailabilityIndex availabilityIndex;
+    @Mock
+    GuideProductRepository guideProductRepository;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.now(ZONE);
+
+    private static ZonedDateTime at(LocalDate date, int hour) {
+        return date.atTime(hour, 0).atZone(ZONE);
+    }
+
+    @DisplayName("예약 인원이 다 찬 날과 지난 날은 예약 불가")
+    @Test
+    void freeDays() {
+        // given
+        given(guideProductRepository.findPeriods(null)).willReturn(List.of(
+                new GuideProductPeriodDto(1L, at(TODAY.minusDays(2), 0), at(TODAY.plusDays(3), 23))
+        ));
+        given(guideProductRepository.findFullDays(eq(null), any())).willReturn(Map.of(
+                1L, List.of(TODAY.plusDays(1), TODAY.plusDays(2))
+        ));
+        availabilityIndex.load();
+
+        // when, then
+        assertThat(availabilityIndex.getFreeDays(1L, TODAY.minusDays(5), TODAY.plusDays(10)))
+                .containsExactly(TODAY, TODAY.plusDays(3));
+        assertThat(availabilityIndex.hasFreeDay(1L, TODAY.plusDays(1), TODAY.plusDays(2))).isFalse();
+        assertThat(availabilityIndex.hasFreeDay(1L, TODAY.plusDays(4), TODAY.plusDays(10))).isFalse();
+        assertThat(availabilityIndex.hasFreeDay(2L, TODAY, TODAY.plusDays(10))).isFalse();
+    }
+
+    @DisplayName("예약이 변경된 상품만 다시 읽음")
+    @Test
+    void reservationChanged() {
+        // given
+        given(guideProductRepository.findPeriods(null)).willReturn(List.of(
+                new GuideProductPeriodDto(1L, at(TODAY, 0), at(TODAY.plusDays(1), 23))
+        ));
+        given(guideProductRepository.findFullDays(eq(null), any())).willReturn(Map.of());
+        availabilityIndex.load();
+        given(guideProductRepository.findPeriods(List.of(1L))).willReturn(List.of(
+                new GuideProductPeriodDto(1L, at(TODAY, 0), at(TODAY.plusDays(1), 23))
+        ));
+        given(guideProductRepository.findFullDays(eq(List.of(1L)), any())).willReturn(Map.of(
+                1L, List.of(TODAY, TODAY.plusDays(1))
+        ));
+
+        // when
+        availabilityIndex.onReservationChanged(new ReservationChangedEvent(1L));
+        availabilityIndex.refresh();
+
+        // then
+        assertThat(availabilityIndex.hasFreeDay(1L, TODAY, TODAY.plusDays(1))).isFalse();
+    }
+}
@@ -0,0 +1,82 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.DayTime;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductFacetResponse;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSearchCondition;
+import com.swygbro.trip.backend.domain.guideProduct.dto.SearchCategoriesRequest;
+import com.swygbro.trip.backend.domain.user.domain.Language;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.swygbro.trip.backend.domain.guideProduct.fixture.GuideProductSearchFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("가이드 상품 패싯 인덱스")
+@ExtendWith(MockitoExtension.class)
+class GuideProductFacetIndexTest {
+
+    GuideProductFacetIndex facetIndex;
+    @Mock
+    GuideProductRepository guideProductRepository;
+    @Mock
+    GuideProductAvailabilityIndex availabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        givenSearchRows(guideProductRepository);
+        GuideProductSearchIndex searchIndex = new GuideProductSearchIndex(guideProductRepository, availabilityIndex);
+        searchIndex.load();
+        facetIndex = new GuideProductFacetIndex(searchIndex);
+    }
+
+    @DisplayName("각 패싯은 자기 조건만 제외하고 계산")
+    @Test
+    void countExcludingOwnFilter() {
+        // given
+        GuideProductSearchCondition condition = condition()
+                .categories(SearchCategoriesRequest.builder().category(GuideCategoryCode.DINING).build())
+                .build();
+
+        // when
+        GuideProductFacetResponse facets = facetIndex.count(condition);
+
+        // then
+        assertThat(facets.getTotalCount()).isEqualTo(2);
+        // 카테고리 패싯은 카테고리 조건 없이 가격 조건만 적용 (4번 상품 제외)
+        assertThat(facets.getCategories()).containsEntry(GuideCategoryCode.DINING, 2L)
+                .containsEntry(GuideCategoryCode.TOUR, 2L)
+                .containsEntry(GuideCategoryCode.OUTDOOR, 0L);
+        // 가격 패싯은 가격 조건 없이 DINING 만 적용
+        assertThat(facets.getPrices()).extracting(GuideProductFacetResponse.Bucket::getCount)
+                .containsExactly(1L, 1L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+        assertThat(facets.getDurations()).extracting(GuideProductFacetResponse.Bucket::getCount)
+                .containsExactly(1L, 1L, 0L, 0L, 0L);
+        assertThat(facets.getDayTimes()).containsEntry(DayTime.MORNING, 1L)
+                .containsEntry(DayTime.LUNCH, 1L)
+                .containsEntry(DayTime.EVENING, 0L);
+    }
+
+    @DisplayName("가격 패싯은 가격 조건 밖의 상품도 구간에 포함")
+    @Test
+    void priceHistogramIgnoresPriceFilter() {
+        // given
+        GuideProductSearchCondition condition = condition().languages(List.of(Language.en)).build();
+
+        // when
+        GuideProductFacetResponse facets = facetIndex.count(condition);
+
+        // then
+        assertThat(facets.getTotalCount()).isEqualTo(1);
+        assertThat(facets.getPrices().get(2).getCount()).isEqualTo(1);
+        assertThat(facets.getPrices().get(10).getCount()).isEqualTo(1);
+        assertThat(facets.getPrices().get(10).getMax()).isNull();
+    }
+}
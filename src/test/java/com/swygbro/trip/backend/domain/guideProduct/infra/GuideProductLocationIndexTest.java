@@ -0,0 +1,74 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductLocationDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("가이드 상품 위치 인덱스")
+@ExtendWith(MockitoExtension.class)
+class GuideProductLocationIndexTest {
+
+    @InjectMocks
+    GuideProductLocationIndex locationIndex;
+    @Mock
+    GuideProductRepository guideProductRepository;
+
+    private static final GeometryFactory geometryFactory = new GeometryFactory();
+
+    private static Point point(double latitude, double longitude) {
+        return geometryFactory.createPoint(new Coordinate(longitude, latitude));
+    }
+
+    @DisplayName("반경 내 상품을 가까운 순으로 조회")
+    @Test
+    void findWithinRadius() {
+        // given
+        given(guideProductRepository.findAllLocations()).willReturn(List.of(
+                new GuideProductLocationDto(1L, point(37.5665, 126.9780)),  // 서울 시청
+                new GuideProductLocationDto(2L, point(37.5512, 126.9882)),  // 남산
+                new GuideProductLocationDto(3L, point(37.4563, 126.7052)),  // 인천
+                new GuideProductLocationDto(4L, point(35.1796, 129.0756))   // 부산
+        ));
+        locationIndex.load();
+
+        // when
+        List<Long> result = locationIndex.findWithinRadius(37.5665, 126.9780, 30000, 4);
+
+        // then
+        assertThat(result).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("k-최근접 상품 조회 및 변경 반영")
+    @Test
+    void findNearest() {
+        // given
+        given(guideProductRepository.findAllLocations()).willReturn(List.of(
+                new GuideProductLocationDto(1L, point(37.5665, 126.9780)),
+                new GuideProductLocationDto(2L, point(35.1796, 129.0756))
+        ));
+        locationIndex.load();
+
+        // when
+        locationIndex.put(1L, point(33.4996, 126.5312));  // 제주로 이동
+        locationIndex.remove(2L);
+        locationIndex.put(3L, point(37.4563, 126.7052));
+
+        // then
+        assertThat(locationIndex.findNearest(37.5665, 126.9780, 2)).containsExactly(3L, 1L);
+        assertThat(locationIndex.findWithinRadius(37.5665, 126.9780, 30000, 4)).containsExactly(3L);
+        assertThat(locationIndex.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,75 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductMapResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지도 영역 내 가이드 상품")
+class GuideProductMapClustererTest {
+
+    private static final GeometryFactory geometryFactory = new GeometryFactory();
+
+    GuideProductLocationIndex locationIndex;
+    GuideProductMapClusterer mapClusterer;
+
+    private static Point point(double latitude, double longitude) {
+        return geometryFactory.createPoint(new Coordinate(longitude, latitude));
+    }
+
+    @BeforeEach
+    void setUp() {
+        locationIndex = new GuideProductLocationIndex(null);
+        locationIndex.put(1L, point(37.5665, 126.9780));  // 서울 시청
+        locationIndex.put(2L, point(37.5651, 126.9895));  // 을지로
+        locationIndex.put(3L, point(37.5512, 126.9882));  // 남산
+        locationIndex.put(4L, point(37.4563, 126.7052));  // 인천
+        locationIndex.put(5L, point(35.1796, 129.0756));  // 부산
+        mapClusterer = new GuideProductMapClusterer(locationIndex);
+    }
+
+    @DisplayName("확대 수준이 낮으면 영역 내 상품을 geohash 칸으로 묶음")
+    @Test
+    void clusters() {
+        // when
+        GuideProductMapResponse response = mapClusterer.find(37.0, 126.5, 38.0, 127.5, 8);
+
+        // then
+        assertThat(response.getTotalCount()).isEqualTo(4);
+        assertThat(response.getMarkers()).isEmpty();
+        assertThat(response.getClusters()).extracting(GuideProductMapResponse.Cluster::getCount).containsExactly(3L, 1L);
+        GuideProductMapResponse.Cluster seoul = response.getClusters().get(0);
+        assertThat(seoul.getSampleIds()).containsExactly(3L, 2L, 1L);
+        assertThat(seoul.getLatitude()).isBetween(37.55, 37.57);
+    }
+
+    @DisplayName("확대 수준이 높으면 개별 위치 반환")
+    @Test
+    void markers() {
+        // when
+        GuideProductMapResponse response = mapClusterer.find(37.56, 126.97, 37.57, 126.99, 16);
+
+        // then
+        assertThat(response.getClusters()).isEmpty();
+        assertThat(response.getMarkers()).extracting(GuideProductMapResponse.Marker::getId).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("날짜 변경선을 넘는 영역")
+    @Test
+    void wrapped() {
+        // given
+        locationIndex.put(6L, point(-17.7134, 178.0650));   // 피지
+        locationIndex.put(7L, point(-13.7590, -172.1046));  // 사모아
+
+        // when
+        GuideProductMapResponse response = mapClusterer.find(-20.0, 170.0, -10.0, -170.0, 16);
+
+        // then
+        assertThat(response.getMarkers()).extracting(GuideProductMapResponse.Marker::getId).containsExactly(7L, 6L);
+    }
+}
@@ -0,0 +1,33 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductRankingStatDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("추천 가이드 상품 순위")
+class GuideProductRankingTest {
+
+    @DisplayName("리뷰가 적은 만점 상품보다 리뷰와 예약이 많은 상품이 우선")
+    @Test
+    void rank() {
+        // given
+        List<GuideProductRankingStatDto> stats = List.of(
+                new GuideProductRankingStatDto(1L, "서울특별시", 1L, 5.0, 0L),
+                new GuideProductRankingStatDto(2L, "서울특별시", 40L, 4.6, 12L),
+                new GuideProductRankingStatDto(3L, "서울특별시", 0L, null, 0L),
+                new GuideProductRankingStatDto(4L, "부산광역시", 3L, 4.0, 1L)
+        );
+
+        // when
+        Map<String, List<Long>> result = GuideProductRanking.rank(stats, 2);
+
+        // then
+        assertThat(result.get("서울특별시")).containsExactly(2L, 1L);
+        assertThat(result.get("부산광역시")).containsExactly(4L);
+    }
+}
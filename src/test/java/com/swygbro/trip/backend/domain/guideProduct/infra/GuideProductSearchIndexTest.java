@@ -0,0 +1,135 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.CategoryMatch;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductSearchCondition;
+import com.swygbro.trip.backend.domain.guideProduct.dto.SearchCategoriesRequest;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductChangedEvent;
+import com.swygbro.trip.backend.domain.user.domain.Language;
+import com.swygbro.trip.backend.domain.user.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.swygbro.trip.backend.domain.guideProduct.fixture.GuideProductSearchFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("가이드 상품 검색 인덱스")
+@ExtendWith(MockitoExtension.class)
+class GuideProductSearchIndexTest {
+
+    @InjectMocks
+    GuideProductSearchIndex searchIndex;
+    @Mock
+    GuideProductRepository guideProductRepository;
+    @Mock
+    GuideProductAvailabilityIndex availabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        givenSearchRows(guideProductRepository);
+        searchIndex.load();
+    }
+
+    @DisplayName("여러 카테고리를 하나 이상 또는 모두 포함하는 상품 검색")
+    @Test
+    void multiCategory() {
+        // given
+        SearchCategoriesRequest any = SearchCategoriesRequest.builder()
+                .categories(List.of(GuideCategoryCode.DINING, GuideCategoryCode.TOUR)).build();
+        SearchCategoriesRequest all = SearchCategoriesRequest.builder()
+                .categories(List.of(GuideCategoryCode.DINING, GuideCategoryCode.TOUR)).categoryMatch(CategoryMatch.ALL).build();
+
+        // when, then
+        assertThat(searchIndex.searchBefore(condition().maxPrice(null).categories(any).build(), null, 10))
+                .containsExactly(3L, 2L, 1L);
+        assertThat(searchIndex.searchBefore(condition().maxPrice(null).categories(all).build(), null, 10))
+                .containsExactly(2L);
+    }
+
+    @DisplayName("조건에 맞는 상품 id를 등록순, 최신순으로 조회")
+    @Test
+    void search() {
+        // given
+        GuideProductSearchCondition condition = condition().maxPrice(100000L).build();
+
+        // when
+        GuideProductSearchIndex.SearchResult page = searchIndex.search(condition, 1, 1);
+        List<Long> before = searchIndex.searchBefore(condition, 3L, 10);
+
+        // then
+        assertThat(page.ids()).containsExactly(2L);
+        assertThat(page.totalCount()).isEqualTo(3);
+        assertThat(before).containsExactly(2L, 1L);
+        assertThat(searchIndex.searchBefore(null, null, 10)).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @DisplayName("키워드 결과와 기간 조건의 지역 상품만 확인")
+    @Test
+    void candidates() {
+        // given
+        given(availabilityIndex.freeDayFilter(any(), any())).willReturn(productId -> productId != 3L);
+        GuideProductSearchCondition keyword = condition().maxPrice(null).productIds(Set.of(1L, 3L, 4L, 99L)).build();
+        ZonedDateTime start = ZonedDateTime.now().plusDays(1);
+        GuideProductSearchCondition period = condition().maxPrice(null).start(start).end(start.plusDays(2)).build();
+        GuideProductSearchCondition otherRegion = condition().region("부산광역시").start(start).end(start.plusDays(2)).build();
+
+        // when, then
+        assertThat(searchIndex.searchBefore(keyword, 4L, 10)).containsExactly(3L, 1L);
+        assertThat(searchIndex.search(keyword, 0, 10).totalCount()).isEqualTo(3);
+        assertThat(searchIndex.searchBefore(period, null, 10)).containsExactly(4L, 2L, 1L);
+        assertThat(searchIndex.searchBefore(otherRegion, null, 10)).isEmpty();
+        // 예약 가능 날짜는 검색마다 한 번만 갱신
+        verify(availabilityIndex, times(2)).freeDayFilter(any(), any());
+    }
+
+    @DisplayName("변경된 상품과 가이드의 문서만 다시 읽음")
+    @Test
+    void applyChanges() {
+        // given
+        given(guideProductRepository.findSearchRows(List.of(1L), List.of(20L))).willReturn(List.of(
+                row(3L, 50000, 8, 19, 20L),
+                row(4L, 250000, 3, 20, 20L)
+        ));
+        given(guideProductRepository.findCategoryCodes(List.of(3L, 4L))).willReturn(Map.of());
+        given(guideProductRepository.findHostLanguages(List.of(20L))).willReturn(Map.of(20L, List.of(Language.ja)));
+
+        // when
+        searchIndex.onGuideProductChanged(GuideProductChangedEvent.deleted(1L));
+        searchIndex.onUserChanged(new UserChangedEvent(20L));
+        searchIndex.refresh();
+
+        // then
+        assertThat(searchIndex.size()).isEqualTo(3);
+        assertThat(searchIndex.count(condition().maxPrice(null).languages(List.of(Language.ja)).build())).isEqualTo(2);
+        assertThat(searchIndex.count(condition().maxPrice(null).languages(List.of(Language.en)).build())).isZero();
+        verify(guideProductRepository, times(1)).findSearchRows(null, null);
+    }
+
+    @DisplayName("상품이 변경되기 전까지 스냅샷 재사용")
+    @Test
+    void rebuildOnlyWhenDirty() {
+        // when
+        searchIndex.searchBefore(condition().build(), null, 10);
+        searchIndex.count(condition().build());
+        searchIndex.requestReload();
+        searchIndex.refresh();
+
+        // then
+        verify(guideProductRepository, times(2)).findSearchRows(null, null);
+    }
+}
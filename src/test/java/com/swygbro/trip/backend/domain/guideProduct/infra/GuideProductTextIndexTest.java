@@ -0,0 +1,71 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProductRepository;
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductTextDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("가이드 상품 키워드 색인")
+@ExtendWith(MockitoExtension.class)
+class GuideProductTextIndexTest {
+
+    @InjectMocks
+    GuideProductTextIndex textIndex;
+    @Mock
+    GuideProductRepository guideProductRepository;
+
+    @DisplayName("띄어쓰기와 관계없이 키워드를 모두 포함하는 상품 검색")
+    @Test
+    void search() {
+        // given
+        given(guideProductRepository.findAllTexts()).willReturn(List.of(
+                new GuideProductTextDto(1L, "한강 야경 투어", "서울의 밤을 즐기는 여행", "여의도 한강공원"),
+                new GuideProductTextDto(2L, "부산 맛집 탐방", "해운대 근처 맛집", "해운대"),
+                new GuideProductTextDto(3L, "Seoul Night Walk", "한강야경 산책", "반포")
+        ));
+        textIndex.load();
+
+        // when, then
+        assertThat(textIndex.search("한강야경", 10)).containsExactly(3L, 1L);
+        assertThat(textIndex.search("맛집 해운대", 10)).containsExactly(2L);
+        assertThat(textIndex.search("seoul", 10)).containsExactly(3L);
+        assertThat(textIndex.search("제주", 10)).isEmpty();
+    }
+
+    @DisplayName("상품 수정, 삭제 반영")
+    @Test
+    void putAndRemove() {
+        // given
+        textIndex.put(1L, "한강 야경 투어", "설명", "여의도");
+
+        // when
+        textIndex.put(1L, "북촌 한옥 투어", "설명", "종로");
+        textIndex.put(2L, "한강 자전거", "설명", "반포");
+        textIndex.remove(2L);
+
+        // then
+        assertThat(textIndex.search("한강", 10)).isEmpty();
+        assertThat(textIndex.search("한옥", 10)).containsExactly(1L);
+    }
+
+    @DisplayName("필터와 결합할 키워드 검색 결과는 개수 제한 없이 전체")
+    @Test
+    void match() {
+        // given
+        for (long id = 1; id <= 1500; id++) textIndex.put(id, "한강 야경 투어 " + id, "설명", "여의도");
+
+        // when, then
+        assertThat(textIndex.match("한강야경")).hasSize(1500).contains(1L, 1500L);
+        assertThat(textIndex.search("한강야경", 10)).hasSize(10).startsWith(1500L);
+        assertThat(textIndex.match("제주")).isEmpty();
+    }
+}
@@ -0,0 +1,115 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.dto.SearchGuideProductResponse;
+import com.swygbro.trip.backend.domain.guideProduct.event.GuideProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("메인 페이지 캐시")
+class MainPageCacheTest {
+
+    MainPageCache mainPageCache;
+
+    @BeforeEach
+    void setUp() {
+        mainPageCache = new MainPageCache();
+        ReflectionTestUtils.setField(mainPageCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(mainPageCache, "maxSize", 100);
+    }
+
+    private static SearchGuideProductResponse product(Long id) {
+        return SearchGuideProductResponse.builder().id(id).title("상품" + id).build();
+    }
+
+    @DisplayName("동시에 캐시가 없으면 한 번만 로딩")
+    @Test
+    void singleFlight() throws Exception {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<List<SearchGuideProductResponse>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> mainPageCache.getBest("서울특별시", () -> {
+                loadCount.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of(product(1L));
+            })));
+        }
+        loading.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<List<SearchGuideProductResponse>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).extracting(SearchGuideProductResponse::getId).containsExactly(1L);
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @DisplayName("상품이 변경되면 영향을 받는 근처 칸만 제거")
+    @Test
+    void invalidateNear() {
+        // given
+        mainPageCache.getNear(37.5665, 126.9780, 30000, (lat, lon) -> List.of(product(1L)));  // 서울
+        mainPageCache.getNear(35.1796, 129.0756, 30000, (lat, lon) -> List.of(product(2L)));  // 부산
+        mainPageCache.getBest("서울특별시", () -> List.of(product(1L)));
+
+        // when
+        mainPageCache.onGuideProductChanged(GuideProductChangedEvent.deleted(2L));
+
+        // then
+        assertThat(mainPageCache.size()).isEqualTo(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        mainPageCache.getNear(37.5665, 126.9780, 30000, (lat, lon) -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+        assertThat(loadCount.get()).isZero();
+    }
+
+    @DisplayName("근처 칸이 많아지면 최대 개수 안으로 제거")
+    @Test
+    void boundedNear() {
+        // when
+        for (int i = 0; i < 1000; i++) {
+            mainPageCache.getNear(33.0 + i * 0.01, 126.0, 30000, (lat, lon) -> List.of());
+        }
+
+        // then
+        assertThat(mainPageCache.size()).isLessThanOrEqualTo(100);
+    }
+
+    @DisplayName("만료된 항목은 다시 요청되지 않아도 제거")
+    @Test
+    void evictExpired() {
+        // given
+        ReflectionTestUtils.setField(mainPageCache, "ttlSeconds", 0L);
+        mainPageCache.getNear(37.5665, 126.9780, 30000, (lat, lon) -> List.of(product(1L)));
+        mainPageCache.getBest("서울특별시", () -> List.of(product(1L)));
+
+        // when
+        mainPageCache.evictExpired();
+
+        // then
+        assertThat(mainPageCache.size()).isZero();
+    }
+}
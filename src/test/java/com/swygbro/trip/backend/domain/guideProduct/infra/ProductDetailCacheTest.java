@@ -0,0 +1,60 @@
+package com.swygbro.trip.backend.domain.guideProduct.infra;
+
+import com.swygbro.trip.backend.domain.guideProduct.dto.GuideProductDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("가이드 상품 상세 캐시")
+class ProductDetailCacheTest {
+
+    ProductDetailCache productDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        productDetailCache = new ProductDetailCache();
+        ReflectionTestUtils.setField(productDetailCache, "maxSize", 2);
+        ReflectionTestUtils.setField(productDetailCache, "ttlSeconds", 60L);
+    }
+
+    private static GuideProductDto product(Long id, String title) {
+        return GuideProductDto.builder().id(id).title(title).build();
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 상품 제거")
+    @Test
+    void lru() {
+        // given
+        productDetailCache.get(1L, () -> product(1L, "상품1"));
+        productDetailCache.get(2L, () -> product(2L, "상품2"));
+        productDetailCache.get(1L, () -> product(1L, "상품1"));
+
+        // when
+        productDetailCache.get(3L, () -> product(3L, "상품3"));
+
+        // then
+        assertThat(productDetailCache.get(1L, () -> product(1L, "다시 조회")).getTitle()).isEqualTo("상품1");
+        assertThat(productDetailCache.get(2L, () -> product(2L, "다시 조회")).getTitle()).isEqualTo("다시 조회");
+
+        ProductDetailCache.CacheStats stats = productDetailCache.getStats();
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(4);
+        assertThat(stats.sizeEvictions()).isEqualTo(2);
+    }
+
+    @DisplayName("조회 중 상품이 변경되면 조회 결과를 캐시하지 않음")
+    @Test
+    void evictDuringLoad() {
+        // when
+        productDetailCache.get(1L, () -> {
+            productDetailCache.evict(1L);
+            return product(1L, "변경 전");
+        });
+
+        // then
+        assertThat(productDetailCache.get(1L, () -> product(1L, "변경 후")).getTitle()).isEqualTo("변경 후");
+    }
+}
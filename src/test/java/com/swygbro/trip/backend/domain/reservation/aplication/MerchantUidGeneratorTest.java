@@ -0,0 +1,126 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("주문 번호 생성기")
+class MerchantUidGeneratorTest {
+
+    // 2024-05-01T12:00:00+09:00
+    private static final long NOW = Instant.parse("2024-05-01T03:00:00Z").toEpochMilli();
+
+    private static Clock clock(AtomicLong millis) {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+    }
+
+    private static long id(String merchantUid) {
+        return Long.parseLong(merchantUid.substring(merchantUid.indexOf('-') + 1), 36);
+    }
+
+    @DisplayName("날짜 접두사를 붙이고 같은 밀리초에도 증가")
+    @Test
+    void sameMillisecond() {
+        // given
+        MerchantUidGenerator generator = new MerchantUidGenerator(1, clock(new AtomicLong(NOW)));
+
+        // when
+        List<String> uids = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) uids.add(generator.next());
+
+        // then
+        assertThat(uids).allMatch(uid -> uid.startsWith("20240501-"));
+        for (int i = 1; i < uids.size(); i++) {
+            assertThat(id(uids.get(i))).isGreaterThan(id(uids.get(i - 1)));
+        }
+    }
+
+    @DisplayName("시계가 뒤로 가도 중복되거나 감소하지 않음")
+    @Test
+    void clockBackwards() {
+        // given
+        AtomicLong millis = new AtomicLong(NOW);
+        MerchantUidGenerator generator = new MerchantUidGenerator(1, clock(millis));
+        String before = generator.next();
+
+        // when
+        millis.set(NOW - 1000);
+        String after = generator.next();
+
+        // then
+        assertThat(id(after)).isGreaterThan(id(before));
+    }
+
+    @DisplayName("노드가 다르면 같은 시각에도 겹치지 않음")
+    @Test
+    void nodes() {
+        // given
+        MerchantUidGenerator first = new MerchantUidGenerator(1, clock(new AtomicLong(NOW)));
+        MerchantUidGenerator second = new MerchantUidGenerator(2, clock(new AtomicLong(NOW)));
+
+        // when
+        Set<String> uids = new HashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            uids.add(first.next());
+            uids.add(second.next());
+        }
+
+        // then
+        assertThat(uids).hasSize(10000);
+    }
+
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복 없음")
+    @Test
+    void concurrent() throws Exception {
+        // given
+        MerchantUidGenerator generator = new MerchantUidGenerator(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<String> uids = ConcurrentHashMap.newKeySet();
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 20000; i++) uids.add(generator.next());
+            }));
+        }
+        for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(uids).hasSize(8 * 20000);
+    }
+
+    @DisplayName("범위를 벗어난 노드 id 는 사용할 수 없음")
+    @Test
+    void invalidNode() {
+        assertThrows(IllegalArgumentException.class, () -> new MerchantUidGenerator(MerchantUidGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -0,0 +1,142 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
+import com.swygbro.trip.backend.domain.reservation.domain.*;
+import com.swygbro.trip.backend.domain.reservation.dto.PaymentWebhookRequest;
+import com.swygbro.trip.backend.domain.reservation.infra.FakePaymentGateway;
+import com.swygbro.trip.backend.domain.user.domain.User;
+import com.swygbro.trip.backend.global.status.PayStatus;
+import com.swygbro.trip.backend.global.status.ReservationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"payment.gateway.type=fake", "payment.gateway.fake.latency-ms=0", "payment.webhook.poll-ms=3600000"})
+@Transactional
+@Sql(scripts = {"/user.sql", "/guideProduct.sql"})
+class PaymentWebhookServiceTest {
+
+    @Autowired
+    private PaymentWebhookService paymentWebhookService;
+
+    @Autowired
+    private PaymentWebhookRepository paymentWebhookRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private FakePaymentGateway fakePaymentGateway;
+
+    private Reservation reservation(String merchantUid) {
+        return reservationRepository.save(Reservation.builder()
+                .client(User.builder().id(1L).build())
+                .guide(User.builder().id(2L).build())
+                .product(GuideProduct.builder().id(1L).build())
+                .guideStart(ZonedDateTime.parse("2024-04-29T12:30:45+09:00[Asia/Seoul]"))
+                .guideEnd(ZonedDateTime.parse("2024-04-29T14:30:45+09:00[Asia/Seoul]"))
+                .personnel(1)
+                .price(10000)
+                .paymentStatus(PayStatus.PENDING)
+                .reservationStatus(ReservationStatus.PENDING_CONFIRMATION)
+                .merchantUid(merchantUid)
+                .build());
+    }
+
+    private static PaymentWebhookRequest webhook(String impUid, String merchantUid, String status) {
+        PaymentWebhookRequest request = new PaymentWebhookRequest();
+        request.setImp_uid(impUid);
+        request.setMerchant_uid(merchantUid);
+        request.setStatus(status);
+        return request;
+    }
+
+    @Test
+    @DisplayName("결제 완료 웹훅을 예약에 반영하고 같은 알림은 한 번만 저장")
+    void paid() {
+        // given
+        reservation("20240429-webhook1");
+        fakePaymentGateway.approve("imp_webhook1", "20240429-webhook1", 10000);
+
+        // when
+        boolean first = paymentWebhookService.enqueue(webhook("imp_webhook1", "20240429-webhook1", "paid"));
+        boolean second = paymentWebhookService.enqueue(webhook("imp_webhook1", "20240429-webhook1", "paid"));
+        int handled = paymentWebhookService.processBatch();
+
+        // then
+        Reservation reservation = reservationRepository.findByMerchantUid("20240429-webhook1");
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(handled).isEqualTo(1);
+        assertThat(reservation.getPaymentStatus()).isEqualTo(PayStatus.COMPLETE);
+        assertThat(reservation.getImpUid()).isEqualTo("imp_webhook1");
+        assertThat(paymentWebhookRepository.countByStatus(PaymentWebhookStatus.PROCESSED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결제 금액이 다르면 반영하지 않음")
+    void amountMismatch() {
+        // given
+        reservation("20240429-webhook2");
+        fakePaymentGateway.approve("imp_webhook2", "20240429-webhook2", 500);
+        paymentWebhookService.enqueue(webhook("imp_webhook2", "20240429-webhook2", "paid"));
+
+        // when
+        paymentWebhookService.processBatch();
+
+        // then
+        assertThat(reservationRepository.findByMerchantUid("20240429-webhook2").getPaymentStatus()).isEqualTo(PayStatus.PENDING);
+        assertThat(paymentWebhookRepository.countByStatus(PaymentWebhookStatus.FAILED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 주문의 다른 결제가 취소되면 예약은 그대로 둠")
+    void cancelledOtherPayment() {
+        // given
+        reservation("20240429-webhook3");
+        fakePaymentGateway.approve("imp_webhook3", "20240429-webhook3", 10000);
+        paymentWebhookService.enqueue(webhook("imp_webhook3", "20240429-webhook3", "paid"));
+        paymentWebhookService.processBatch();
+
+        // 중복 결제된 두 번째 결제만 환불
+        fakePaymentGateway.approve("imp_webhook3_dup", "20240429-webhook3", 10000);
+        fakePaymentGateway.cancelPayment("imp_webhook3_dup").join();
+        paymentWebhookService.enqueue(webhook("imp_webhook3_dup", "20240429-webhook3", "cancelled"));
+
+        // when
+        paymentWebhookService.processBatch();
+
+        // then
+        Reservation reservation = reservationRepository.findByMerchantUid("20240429-webhook3");
+        assertThat(reservation.getPaymentStatus()).isEqualTo(PayStatus.COMPLETE);
+        assertThat(reservation.getReservationStatus()).isEqualTo(ReservationStatus.RESERVED);
+        assertThat(paymentWebhookRepository.countByStatus(PaymentWebhookStatus.IGNORED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 예약의 결제 완료 웹훅은 결제를 취소")
+    void paidAfterExpiry() {
+        // given
+        Reservation expired = reservation("20240429-webhook4");
+        expired.cancelReservation();
+        fakePaymentGateway.approve("imp_webhook4", "20240429-webhook4", 10000);
+        paymentWebhookService.enqueue(webhook("imp_webhook4", "20240429-webhook4", "paid"));
+
+        // when
+        paymentWebhookService.processBatch();
+
+        // then
+        Reservation reservation = reservationRepository.findByMerchantUid("20240429-webhook4");
+        assertThat(reservation.getPaymentStatus()).isEqualTo(PayStatus.PENDING);
+        assertThat(reservation.getReservationStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(fakePaymentGateway.getPayment("imp_webhook4").join().getResponse().getStatus()).isEqualTo("cancelled");
+        assertThat(paymentWebhookRepository.countByStatus(PaymentWebhookStatus.PROCESSED)).isEqualTo(1);
+    }
+}
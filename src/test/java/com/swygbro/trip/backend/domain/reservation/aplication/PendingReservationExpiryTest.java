@@ -0,0 +1,83 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
+import com.swygbro.trip.backend.domain.reservation.domain.Reservation;
+import com.swygbro.trip.backend.domain.reservation.domain.ReservationRepository;
+import com.swygbro.trip.backend.domain.user.domain.User;
+import com.swygbro.trip.backend.global.status.PayStatus;
+import com.swygbro.trip.backend.global.status.ReservationStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@Sql(scripts = {"/user.sql", "/guideProduct.sql"})
+class PendingReservationExpiryTest {
+
+    @Autowired
+    private PendingReservationExpiry pendingReservationExpiry;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Reservation reservation(String merchantUid, PayStatus payStatus, ReservationStatus reservationStatus) {
+        return reservationRepository.save(Reservation.builder()
+                .client(User.builder().id(1L).build())
+                .guide(User.builder().id(2L).build())
+                .product(GuideProduct.builder().id(1L).build())
+                .guideStart(ZonedDateTime.parse("2024-05-01T12:00:00+09:00[Asia/Seoul]"))
+                .guideEnd(ZonedDateTime.parse("2024-05-01T14:00:00+09:00[Asia/Seoul]"))
+                .personnel(1)
+                .price(10000)
+                .paymentStatus(payStatus)
+                .reservationStatus(reservationStatus)
+                .merchantUid(merchantUid)
+                .build());
+    }
+
+    @Test
+    @DisplayName("결제 대기 중인 예약만 만료")
+    void expire() {
+        // given
+        Reservation pending = reservation("20240501-expire1", PayStatus.PENDING, ReservationStatus.PENDING_CONFIRMATION);
+        Reservation paid = reservation("20240501-expire2", PayStatus.COMPLETE, ReservationStatus.RESERVED);
+
+        // when
+        int expired = pendingReservationExpiry.expire(List.of(pending.getId(), paid.getId()));
+        int again = pendingReservationExpiry.expire(List.of(pending.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(again).isZero();
+        assertThat(reservationRepository.findByMerchantUid("20240501-expire1").getReservationStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(reservationRepository.findByMerchantUid("20240501-expire2").getReservationStatus()).isEqualTo(ReservationStatus.RESERVED);
+    }
+
+    @Test
+    @DisplayName("결제 대기 예약의 만료 일정 등록")
+    void schedule() {
+        // given
+        int before = pendingReservationExpiry.size();
+
+        // when
+        pendingReservationExpiry.schedule(Long.MAX_VALUE, ZonedDateTime.now().plusDays(1));
+
+        // then
+        assertThat(pendingReservationExpiry.size()).isEqualTo(before + 1);
+    }
+}
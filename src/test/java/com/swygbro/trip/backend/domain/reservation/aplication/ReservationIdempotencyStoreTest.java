@@ -0,0 +1,88 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.swygbro.trip.backend.domain.reservation.dto.MerchantDto;
+import com.swygbro.trip.backend.domain.reservation.dto.SaveReservationRequest;
+import com.swygbro.trip.backend.domain.reservation.exception.IdempotencyKeyReusedException;
+import com.swygbro.trip.backend.domain.reservation.exception.InvalidIdempotencyKeyException;
+import com.swygbro.trip.backend.domain.reservation.exception.ReservationInProgressException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Transactional
+class ReservationIdempotencyStoreTest {
+
+    @Autowired
+    private ReservationIdempotencyStore idempotencyStore;
+
+    private static SaveReservationRequest request(int personnel) {
+        return SaveReservationRequest.builder()
+                .productId(1L)
+                .guideStart(ZonedDateTime.parse("2024-05-01T12:00:00+09:00[Asia/Seoul]"))
+                .guideEnd(ZonedDateTime.parse("2024-05-01T15:00:00+09:00[Asia/Seoul]"))
+                .personnel(personnel)
+                .price(10000)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 처음 주문 번호 반환")
+    void replay() {
+        // given
+        assertThat(idempotencyStore.claim(1L, "key-1", request(2))).isEmpty();
+        idempotencyStore.complete(1L, "key-1", "20240501-abcdef12");
+
+        // when
+        Optional<MerchantDto> replayed = idempotencyStore.claim(1L, "key-1", request(2));
+
+        // then
+        assertThat(replayed).map(MerchantDto::getMerchantUid).contains("20240501-abcdef12");
+    }
+
+    @Test
+    @DisplayName("키는 사용자마다 따로 선점")
+    void perClient() {
+        // given
+        idempotencyStore.claim(1L, "key-1", request(2));
+        idempotencyStore.complete(1L, "key-1", "20240501-abcdef12");
+
+        // when, then
+        assertThat(idempotencyStore.claim(2L, "key-1", request(2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용을 요청하면 실패")
+    void reused() {
+        // given
+        idempotencyStore.claim(1L, "key-1", request(2));
+        idempotencyStore.complete(1L, "key-1", "20240501-abcdef12");
+
+        // when, then
+        assertThrows(IdempotencyKeyReusedException.class, () -> idempotencyStore.claim(1L, "key-1", request(3)));
+    }
+
+    @Test
+    @DisplayName("주문 번호가 기록되기 전이면 처리 중")
+    void inProgress() {
+        // given
+        idempotencyStore.claim(1L, "key-1", request(2));
+
+        // when, then
+        assertThrows(ReservationInProgressException.class, () -> idempotencyStore.claim(1L, "key-1", request(2)));
+    }
+
+    @Test
+    @DisplayName("64자를 넘는 키는 사용할 수 없음")
+    void invalidKey() {
+        assertThrows(InvalidIdempotencyKeyException.class, () -> idempotencyStore.claim(1L, "k".repeat(65), request(2)));
+    }
+}
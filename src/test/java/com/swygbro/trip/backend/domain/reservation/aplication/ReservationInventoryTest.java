@@ -0,0 +1,111 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
+import com.swygbro.trip.backend.domain.reservation.domain.ReservationSlot;
+import com.swygbro.trip.backend.domain.reservation.domain.ReservationSlotRepository;
+import com.swygbro.trip.backend.domain.reservation.exception.ReservationCapacityExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "reservation.slot.capacity=10")
+class ReservationInventoryTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate DAY = LocalDate.now(ZONE).plusDays(7);
+
+    @Autowired
+    private ReservationInventory reservationInventory;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    private static GuideProduct product(Long id) {
+        return GuideProduct.builder().id(id)
+                .guideStart(LocalDate.now(ZONE).atStartOfDay(ZONE))
+                .guideEnd(DAY.plusDays(7).atStartOfDay(ZONE))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationSlotRepository.deleteAll();
+    }
+
+    private int reserveConcurrently(List<GuideProduct> products, int requests, int personnel) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ZonedDateTime guideStart = DAY.atTime(10, 0).atZone(ZONE);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            GuideProduct product = products.get(i % products.size());
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    reservationInventory.reserve(product, guideStart, personnel);
+                    succeeded.incrementAndGet();
+                } catch (ReservationCapacityExceededException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(requests);
+        return succeeded.get();
+    }
+
+    @Test
+    @DisplayName("동시에 예약해도 하루 예약 인원을 넘지 않음")
+    void noOverbooking() throws InterruptedException {
+        // given
+        GuideProduct product = product(900001L);
+
+        // when
+        int succeeded = reserveConcurrently(List.of(product), 100, 3);
+
+        // then
+        ReservationSlot slot = reservationSlotRepository.findByProductIdAndSlotDate(product.getId(), DAY).orElseThrow();
+        assertThat(succeeded).isEqualTo(3);
+        assertThat(slot.getReserved()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("상품마다 재고가 따로 차감됨")
+    void perProduct() throws InterruptedException {
+        // given
+        List<GuideProduct> products = List.of(product(900001L), product(900002L), product(900003L), product(900004L));
+
+        // when
+        int succeeded = reserveConcurrently(products, 200, 1);
+
+        // then
+        assertThat(succeeded).isEqualTo(40);
+        products.forEach(product -> assertThat(reservationSlotRepository.findByProductIdAndSlotDate(product.getId(), DAY).orElseThrow().getReserved())
+                .isEqualTo(10));
+    }
+}
@@ -1,6 +1,7 @@
 package com.swygbro.trip.backend.domain.reservation.aplication;
 
 import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideCategoryCode;
 import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
 import com.swygbro.trip.backend.domain.reservation.domain.Reservation;
 import com.swygbro.trip.backend.domain.reservation.domain.ReservationRepository;
@@ -12,7 +13,10 @@ import com.swygbro.trip.backend.domain.reservation.exception.ForeignKeyConstrain
 import com.swygbro.trip.backend.domain.user.domain.User;
 import com.swygbro.trip.backend.global.status.PayStatus;
 import com.swygbro.trip.backend.global.status.ReservationStatus;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,12 +28,13 @@ import java.io.IOException;
 import java.sql.Timestamp;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Slf4j
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional
 @Sql(scripts = {"/user.sql", "/guideProduct.sql"})
 class ReservationServiceTest {
@@ -40,6 +45,9 @@ class ReservationServiceTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
 
     @Test
     @DisplayName("예약 정보 저장 성공")
@@ -132,7 +140,8 @@ class ReservationServiceTest {
         String impUid = "imp_1234567890";
 
         // then
-        IamportResponseException exception = assertThrows(IamportResponseException.class, () -> reservationService.validateIamport(impUid));
+        CompletionException completionException = assertThrows(CompletionException.class, () -> reservationService.validateIamport(impUid).join());
+        IamportResponseException exception = (IamportResponseException) completionException.getCause();
 
         log.error("exception : {}", exception.getMessage());
         log.error("exception.code : {}", exception.getHttpStatusCode());
@@ -151,7 +160,7 @@ class ReservationServiceTest {
 
     @Test
     @DisplayName("결제 후 예약 취소 (실제 uid 필요)")
-    void cancelReservation() {
+    void cancelReservation() throws IamportResponseException, IOException {
         // given
 
         // 실제 PortOne test merchantUid
@@ -183,10 +192,29 @@ class ReservationServiceTest {
 
     @Test
     @DisplayName("결제 전 예약 취소")
-    void cancelReservationBeforePayment() {
+    void cancelReservationBeforePayment() throws IamportResponseException, IOException {
         // given
+        String merchantUid = "20240429-unpaid1";
+        reservationRepository.save(Reservation.builder()
+                .client(User.builder().id(1L).build())
+                .guide(User.builder().id(2L).build())
+                .product(GuideProduct.builder().id(1L).build())
+                .guideStart(ZonedDateTime.parse("2024-04-29T12:30:45+09:00[Asia/Seoul]"))
+                .guideEnd(ZonedDateTime.parse("2024-04-29T14:30:45+09:00[Asia/Seoul]"))
+                .personnel(1)
+                .price(10000)
+                .paymentStatus(PayStatus.PENDING)
+                .reservationStatus(ReservationStatus.PENDING_CONFIRMATION)
+                .merchantUid(merchantUid)
+                .build());
 
+        // when
+        ReservationDto result = reservationService.cancelReservation(merchantUid);
 
+        // then
+        // 결제 내역이 없으므로 대행사에 취소를 요청하지 않음
+        assertThat(result.getReservationStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(result.getPaymentStatus()).isEqualTo(PayStatus.PENDING);
     }
 
     @Test
@@ -235,8 +263,90 @@ class ReservationServiceTest {
 
         // then
         assertThat(reservationList.size()).isEqualTo(2);
-        assertThat(reservationList.get(0).getMerchantUid()).isEqualTo("merchant_uid_2");
-        assertThat(reservationList.get(1).getMerchantUid()).isEqualTo("merchant_uid_3");
+        assertThat(reservationList.get(0).getMerchantUid()).isEqualTo("merchant_uid_3");
+        assertThat(reservationList.get(1).getMerchantUid()).isEqualTo("merchant_uid_2");
+    }
+
+    @Test
+    @DisplayName("이전 페이지 마지막 예약 다음부터 조회")
+    void getReservationListAfterLast() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            reservationRepository.save(Reservation.builder()
+                    .client(User.builder().id(1L).build())
+                    .guide(User.builder().id(2L).build())
+                    .product(GuideProduct.builder().id(1L).build())
+                    .guideStart(ZonedDateTime.parse("2024-04-29T12:30:45+09:00[Asia/Seoul]").plusDays(i / 2))
+                    .guideEnd(ZonedDateTime.parse("2024-04-29T14:30:45+09:00[Asia/Seoul]").plusDays(i / 2))
+                    .personnel(1)
+                    .price(10000)
+                    .paymentStatus(PayStatus.COMPLETE)
+                    .reservationStatus(ReservationStatus.RESERVED)
+                    .merchantUid("merchant_uid_keyset_" + i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<ReservationDto> first = reservationService.getReservationListByClient(1L, ReservationSearchCriteria.builder()
+                .statusFilter(0)
+                .timeFilter(0)
+                .pageSize(2)
+                .build());
+        List<ReservationDto> second = reservationService.getReservationListByClient(1L, ReservationSearchCriteria.builder()
+                .statusFilter(0)
+                .timeFilter(0)
+                .pageSize(2)
+                .lastMerchantUid(first.get(1).getMerchantUid())
+                .build());
+
+        // then
+        assertThat(first.stream().map(ReservationDto::getMerchantUid).toList())
+                .isEqualTo(List.of("merchant_uid_keyset_4", "merchant_uid_keyset_3"));
+        assertThat(second.stream().map(ReservationDto::getMerchantUid).toList())
+                .isEqualTo(List.of("merchant_uid_keyset_2", "merchant_uid_keyset_1"));
+    }
+
+    @Test
+    @DisplayName("예약 목록 조회는 예약 수와 관계없이 쿼리 두 번")
+    void getReservationListStatementCount() {
+        // given
+        for (int i = 0; i < 6; i++) {
+            reservationRepository.save(Reservation.builder()
+                    .client(User.builder().id(1L).build())
+                    .guide(User.builder().id(2L).build())
+                    .product(GuideProduct.builder().id(i % 2 + 1L).build())
+                    .guideStart(ZonedDateTime.parse("2024-04-29T12:30:45+09:00[Asia/Seoul]"))
+                    .guideEnd(ZonedDateTime.parse("2024-04-29T14:30:45+09:00[Asia/Seoul]"))
+                    .personnel(1)
+                    .price(10000)
+                    .paymentStatus(PayStatus.COMPLETE)
+                    .reservationStatus(ReservationStatus.RESERVED)
+                    .merchantUid("merchant_uid_count_" + i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        ReservationSearchCriteria criteria = ReservationSearchCriteria.builder()
+                .statusFilter(0)
+                .timeFilter(0)
+                .offset(0)
+                .pageSize(10)
+                .build();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<ReservationDto> reservationList = reservationService.getReservationListByClient(1L, criteria);
+
+        // then
+        assertThat(reservationList.size()).isEqualTo(6);
+        assertThat(reservationList.get(0).getGuide().getNickname()).isEqualTo("example_nickname2");
+        assertThat(reservationList.get(0).getProduct().getNickname()).isNotNull();
+        assertThat(reservationList.get(0).getProduct().getCategories().contains(GuideCategoryCode.OUTDOOR)).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
     }
 
     @Test
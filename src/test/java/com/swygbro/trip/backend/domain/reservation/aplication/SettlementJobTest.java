@@ -0,0 +1,86 @@
+package com.swygbro.trip.backend.domain.reservation.aplication;
+
+import com.swygbro.trip.backend.domain.guideProduct.domain.GuideProduct;
+import com.swygbro.trip.backend.domain.reservation.domain.GuideSettlement;
+import com.swygbro.trip.backend.domain.reservation.domain.GuideSettlementRepository;
+import com.swygbro.trip.backend.domain.reservation.domain.Reservation;
+import com.swygbro.trip.backend.domain.reservation.domain.ReservationRepository;
+import com.swygbro.trip.backend.domain.user.domain.User;
+import com.swygbro.trip.backend.global.status.PayStatus;
+import com.swygbro.trip.backend.global.status.ReservationStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "reservation.settlement.chunk-size=2")
+@Transactional
+@Sql(scripts = {"/user.sql", "/guideProduct.sql"})
+class SettlementJobTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2024, 5, 10, 4, 0, 0, 0, ZoneId.of("Asia/Seoul"));
+
+    @Autowired
+    private SettlementJob settlementJob;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private GuideSettlementRepository guideSettlementRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Reservation reservation(String merchantUid, ZonedDateTime guideEnd, int price, PayStatus payStatus) {
+        return reservationRepository.save(Reservation.builder()
+                .client(User.builder().id(1L).build())
+                .guide(User.builder().id(2L).build())
+                .product(GuideProduct.builder().id(1L).build())
+                .guideStart(guideEnd.minusHours(2))
+                .guideEnd(guideEnd)
+                .personnel(1)
+                .price(price)
+                .paymentStatus(payStatus)
+                .reservationStatus(ReservationStatus.RESERVED)
+                .merchantUid(merchantUid)
+                .build());
+    }
+
+    @Test
+    @DisplayName("끝난 결제 완료 예약만 정산하고 가이드별 합계 누적")
+    void settle() {
+        // given
+        reservation("20240501-settle1", NOW.minusDays(3), 10000, PayStatus.COMPLETE);
+        reservation("20240501-settle2", NOW.minusDays(2), 20000, PayStatus.COMPLETE);
+        reservation("20240501-settle3", NOW.minusDays(1), 30000, PayStatus.COMPLETE);
+        reservation("20240501-settle4", NOW.minusDays(1), 40000, PayStatus.PENDING);
+        reservation("20240501-settle5", NOW.plusDays(1), 50000, PayStatus.COMPLETE);
+
+        // when
+        long settled = settlementJob.run(NOW);
+        long again = settlementJob.run(NOW);
+        entityManager.clear();
+
+        // then
+        assertThat(settled).isEqualTo(3);
+        assertThat(again).isZero();
+        assertThat(reservationRepository.findByMerchantUid("20240501-settle3").getReservationStatus()).isEqualTo(ReservationStatus.SETTLED);
+        assertThat(reservationRepository.findByMerchantUid("20240501-settle4").getReservationStatus()).isEqualTo(ReservationStatus.RESERVED);
+        assertThat(reservationRepository.findByMerchantUid("20240501-settle5").getReservationStatus()).isEqualTo(ReservationStatus.RESERVED);
+
+        List<GuideSettlement> settlements = guideSettlementRepository.findByGuideIdOrderBySettlementDateDesc(2L);
+        assertThat(settlements).hasSize(1);
+        assertThat(settlements.get(0).getReservationCount()).isEqualTo(3);
+        assertThat(settlements.get(0).getTotalAmount()).isEqualTo(60000);
+    }
+}
@@ -0,0 +1,106 @@
+package com.swygbro.trip.backend.domain.reservation.infra;
+
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.request.CancelData;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import com.swygbro.trip.backend.domain.reservation.exception.PaymentGatewayUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("결제 대행사 호출")
+@ExtendWith(MockitoExtension.class)
+class IamportPaymentGatewayTest {
+
+    @Mock
+    IamportClient iamportClient;
+    @Mock
+    IamportResponse<Payment> response;
+
+    IamportPaymentGateway paymentGateway;
+
+    private IamportPaymentGateway gateway(long timeoutMs, int maxAttempts) {
+        paymentGateway = new IamportPaymentGateway(iamportClient, timeoutMs, 4, 8, maxAttempts, 10, 60000);
+        return paymentGateway;
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentGateway.shutdown();
+    }
+
+    @DisplayName("조회는 네트워크 오류 시 재시도")
+    @Test
+    void retry() throws Exception {
+        // given
+        given(iamportClient.paymentByImpUid("imp_1")).willThrow(new IOException("connection reset")).willReturn(response);
+
+        // when
+        IamportResponse<Payment> result = gateway(1000, 3).getPayment("imp_1").join();
+
+        // then
+        assertThat(result).isSameAs(response);
+        verify(iamportClient, times(2)).paymentByImpUid("imp_1");
+    }
+
+    @DisplayName("취소는 재시도하지 않음")
+    @Test
+    void cancelNotRetried() throws Exception {
+        // given
+        given(iamportClient.cancelPaymentByImpUid(any(CancelData.class))).willThrow(new IOException("connection reset"));
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class, () -> gateway(1000, 3).cancelPayment("imp_1").join());
+
+        // then
+        assertThat(exception.getCause()).isInstanceOf(IOException.class);
+        verify(iamportClient, times(1)).cancelPaymentByImpUid(any(CancelData.class));
+    }
+
+    @DisplayName("시간 제한을 넘기면 실패")
+    @Test
+    void timeout() throws Exception {
+        // given
+        given(iamportClient.paymentByImpUid("imp_1")).willAnswer(invocation -> {
+            Thread.sleep(500);
+            return response;
+        });
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class, () -> gateway(50, 1).getPayment("imp_1").join());
+
+        // then
+        assertThat(exception.getCause()).isInstanceOf(PaymentGatewayUnavailableException.class);
+    }
+
+    @DisplayName("장애가 이어지면 서킷을 열고 호출하지 않음")
+    @Test
+    void circuitOpen() throws Exception {
+        // given
+        given(iamportClient.paymentByImpUid("imp_1")).willThrow(new IOException("connection refused"));
+        IamportPaymentGateway gateway = gateway(1000, 1);
+        for (int i = 0; i < 10; i++) {
+            assertThrows(CompletionException.class, () -> gateway.getPayment("imp_1").join());
+        }
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class, () -> gateway.getPayment("imp_1").join());
+
+        // then
+        assertThat(exception.getCause()).isInstanceOf(PaymentGatewayUnavailableException.class);
+        verify(iamportClient, times(10)).paymentByImpUid("imp_1");
+    }
+}
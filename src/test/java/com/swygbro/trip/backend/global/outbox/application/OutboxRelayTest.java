@@ -0,0 +1,106 @@
+package com.swygbro.trip.backend.global.outbox.application;
+
+import com.swygbro.trip.backend.domain.reservation.event.ReservationPaidEvent;
+import com.swygbro.trip.backend.global.outbox.domain.OutboxEvent;
+import com.swygbro.trip.backend.global.outbox.domain.OutboxEventRepository;
+import com.swygbro.trip.backend.global.outbox.domain.OutboxEventStatus;
+import com.swygbro.trip.backend.infra.discordbot.DiscordMessageProvider;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@Transactional
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxEventStore outboxEventStore;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @SpyBean
+    private DiscordMessageProvider discordMessageProvider;
+
+    private OutboxEvent reload() {
+        entityManager.flush();
+        entityManager.clear();
+        return outboxEventRepository.findAll().get(0);
+    }
+
+    @Test
+    @DisplayName("저장된 이벤트를 리스너에 전달하고 완료 처리")
+    void relay() {
+        // given
+        outboxEventStore.append(new ReservationPaidEvent(1L, 1L, "20240501-outbox1", 10000));
+
+        // when
+        int relayed = outboxRelay.relay();
+
+        // then
+        assertThat(relayed).isEqualTo(1);
+        verify(discordMessageProvider).sendMessage(contains("20240501-outbox1"));
+        OutboxEvent event = reload();
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+        assertThat(event.getPublishedAt()).isNotNull();
+        assertThat(outboxRelay.relay()).isZero();
+    }
+
+    @Test
+    @DisplayName("리스너는 전달 스레드 풀에서 실행")
+    void dispatchOffRelayThread() {
+        // given
+        outboxEventStore.append(new ReservationPaidEvent(1L, 1L, "20240501-outbox3", 10000));
+        AtomicReference<String> listenerThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            listenerThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(discordMessageProvider).sendMessage(anyString());
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(listenerThread.get()).startsWith("outbox-dispatch-");
+        assertThat(reload().getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("리스너가 실패하면 백오프 후 다시 전달")
+    void retry() {
+        // given
+        outboxEventStore.append(new ReservationPaidEvent(1L, 1L, "20240501-outbox2", 10000));
+        doThrow(new RuntimeException("디스코드 메시지 전송 실패")).when(discordMessageProvider).sendMessage(anyString());
+
+        // when
+        int relayed = outboxRelay.relay();
+
+        // then
+        assertThat(relayed).isEqualTo(1);
+        OutboxEvent event = reload();
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getLastError()).contains("디스코드 메시지 전송 실패");
+        assertThat(event.getNextAttemptAt()).isAfter(ZonedDateTime.now());
+        // 다음 시도 시각 전에는 다시 가져가지 않음
+        assertThat(outboxRelay.relay()).isZero();
+    }
+}